@@ -0,0 +1,14 @@
+-- Mueve las descripciones existentes de books.description a book_descriptions.
+-- Ejecutar una vez tras desplegar la versión que crea book_descriptions (ddl-auto=update).
+
+BEGIN;
+
+INSERT INTO book_descriptions (book_isbn, description)
+SELECT isbn, description
+FROM books
+WHERE description IS NOT NULL
+ON CONFLICT (book_isbn) DO NOTHING;
+
+ALTER TABLE books DROP COLUMN description;
+
+COMMIT;
@@ -0,0 +1,56 @@
+// Rendimiento de las respuestas de error (404 por ISBN inexistente, 400 por un ISBN no numérico y 400 por
+// un cuerpo de petición mal formado).
+//
+// Uso: k6 run -e BASE_URL=http://localhost:8080 scripts/load/error-paths.js
+//
+// Ejecutar contra la versión anterior y la actual con la misma carga y comparar
+// http_reqs (peticiones por segundo) y http_req_duration de cada escenario.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+	scenarios: {
+		not_found: {
+			executor: 'constant-vus',
+			exec: 'notFound',
+			vus: 50,
+			duration: '1m',
+			tags: { path: 'not_found' },
+		},
+		bad_request: {
+			executor: 'constant-vus',
+			exec: 'badRequest',
+			vus: 50,
+			duration: '1m',
+			tags: { path: 'bad_request' },
+		},
+		malformed_body: {
+			executor: 'constant-vus',
+			exec: 'malformedBody',
+			vus: 50,
+			duration: '1m',
+			tags: { path: 'malformed_body' },
+		},
+	},
+};
+
+export function notFound() {
+	const isbn = 9790000000000 + Math.floor(Math.random() * 1e9);
+	const res = http.get(`${BASE_URL}/books/${isbn}`);
+	check(res, { 'status is 404': (r) => r.status === 404 });
+}
+
+export function badRequest() {
+	const res = http.get(`${BASE_URL}/books/not-a-number`);
+	check(res, { 'status is 400': (r) => r.status === 400 });
+}
+
+export function malformedBody() {
+	const res = http.post(`${BASE_URL}/books/batch`, JSON.stringify(['abc']), {
+		headers: { 'Content-Type': 'application/json' },
+	});
+	check(res, { 'status is 400': (r) => r.status === 400 });
+}
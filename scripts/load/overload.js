@@ -0,0 +1,74 @@
+// Prueba de sobrecarga del catálogo con k6 (https://k6.io).
+//
+// Uso: k6 run -e BASE_URL=http://localhost:8080 -e ISBN=9781234567890 scripts/load/overload.js
+//
+// Sube la carga muy por encima de la capacidad de la base de datos y separa las respuestas
+// en goodput (200 dentro del SLO), rechazos rápidos (503) y respuestas lentas o fallidas.
+// Con el limitador activo el goodput se mantiene estable en la fase de sobrecarga y los
+// rechazos 503 absorben el exceso; sin él la latencia crece hasta que todo expira.
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ISBN = __ENV.ISBN || '9781234567890';
+const SLO_MS = Number(__ENV.SLO_MS || 500);
+
+const goodput = new Counter('goodput');
+const shed = new Counter('shed');
+const failed = new Counter('failed');
+const okLatency = new Trend('ok_latency', true);
+
+export const options = {
+	scenarios: {
+		reads: {
+			executor: 'ramping-arrival-rate',
+			exec: 'readByIsbn',
+			startRate: 50,
+			timeUnit: '1s',
+			preAllocatedVUs: 200,
+			maxVUs: 2000,
+			stages: [
+				{ target: 200, duration: '30s' },
+				{ target: 2000, duration: '1m' },
+				{ target: 2000, duration: '2m' },
+				{ target: 200, duration: '30s' },
+			],
+		},
+		scans: {
+			executor: 'ramping-arrival-rate',
+			exec: 'search',
+			startRate: 5,
+			timeUnit: '1s',
+			preAllocatedVUs: 50,
+			maxVUs: 500,
+			stages: [
+				{ target: 20, duration: '30s' },
+				{ target: 300, duration: '1m' },
+				{ target: 300, duration: '2m' },
+				{ target: 20, duration: '30s' },
+			],
+		},
+	},
+};
+
+function record(res) {
+	if (res.status === 200 && res.timings.duration <= SLO_MS) {
+		goodput.add(1);
+		okLatency.add(res.timings.duration);
+	} else if (res.status === 503) {
+		check(res, { 'retry-after present': (r) => r.headers['Retry-After'] !== undefined });
+		shed.add(1);
+	} else {
+		failed.add(1);
+	}
+}
+
+export function readByIsbn() {
+	record(http.get(`${BASE_URL}/books/${ISBN}`, { timeout: '10s' }));
+}
+
+export function search() {
+	record(http.get(`${BASE_URL}/books/search?display=true`, { timeout: '10s' }));
+}
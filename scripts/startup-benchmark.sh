@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Mide el tiempo desde el arranque del contenedor hasta el primer GET /books/{isbn} exitoso.
+#
+# Uso: scripts/startup-benchmark.sh <isbn> [imagen] [intentos]
+#
+# La base de datos y Eureka deben estar accesibles desde el contenedor; las variables
+# SPRING_DATASOURCE_* y EUREKA_CLIENT_SERVICE_URL_DEFAULTZONE se propagan tal cual.
+
+set -euo pipefail
+
+ISBN="${1:?Se requiere un ISBN existente}"
+IMAGE="${2:-relatos/ms-books-catalogue:latest}"
+RUNS="${3:-5}"
+PORT="${SERVER_PORT:-8080}"
+
+for run in $(seq 1 "$RUNS"); do
+	start=$(date +%s%N)
+	container=$(docker run -d --rm --network host \
+		-e SERVER_PORT="$PORT" \
+		-e SPRING_DATASOURCE_URL \
+		-e SPRING_DATASOURCE_USERNAME \
+		-e SPRING_DATASOURCE_PASSWORD \
+		-e EUREKA_CLIENT_SERVICE_URL_DEFAULTZONE \
+		"$IMAGE")
+
+	until curl -sf -o /dev/null "http://localhost:${PORT}/books/${ISBN}"; do
+		sleep 0.05
+	done
+
+	end=$(date +%s%N)
+	echo "run=${run} time_to_first_book_ms=$(( (end - start) / 1000000 ))"
+	docker stop "$container" > /dev/null
+done
@@ -0,0 +1,10 @@
+#!/usr/bin/env bash
+# Compara tamaño, tiempo de codificación y tiempo de decodificación de JSON, CBOR y Smile para un libro y para
+# un listado de 10.000 libros sintéticos, en proceso y con los mismos ObjectMapper que usan los conversores HTTP.
+#
+# Uso: scripts/wire-format-benchmark.sh
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+mvn -B test -Dtest=WireFormatBenchmark -Dsurefire.failIfNoSpecifiedTests=false
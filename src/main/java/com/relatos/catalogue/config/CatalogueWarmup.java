@@ -0,0 +1,162 @@
+package com.relatos.catalogue.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * Fills the connection pools and exercises the read endpoints through the local
+ * HTTP port before the instance takes traffic, so the web layer, serialization
+ * and the data access code are all warm. The full scans run a few times; the
+ * cheap lookups repeat until the iteration count or the time budget runs out.
+ * Application runners complete before the readiness state moves to
+ * ACCEPTING_TRAFFIC, and the Eureka status is only flipped to UP at the end.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class CatalogueWarmup implements ApplicationRunner {
+
+	private final RestClient.Builder restClientBuilder;
+	private final Environment environment;
+	private final ObjectProvider<HikariDataSource> dataSources;
+	private final ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource;
+	private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+	private final Logger logger = LoggerFactory.getLogger(CatalogueWarmup.class);
+
+	@Value("${catalogue.warmup.enabled:true}")
+	private boolean enabled;
+
+	@Value("${catalogue.warmup.scan-iterations:3}")
+	private int scanIterations;
+
+	@Value("${catalogue.warmup.iterations:200}")
+	private int iterations;
+
+	@Value("${catalogue.warmup.time-budget-ms:15000}")
+	private long timeBudgetMs;
+
+	@Value("${catalogue.warmup.hot-isbns:}")
+	private List<Long> hotIsbns;
+
+	@Value("${catalogue.warmup.hot-isbn-limit:50}")
+	private int hotIsbnLimit;
+
+	@Value("${catalogue.warmup.pool-timeout-ms:10000}")
+	private long poolTimeoutMs;
+
+	public CatalogueWarmup(RestClient.Builder restClientBuilder, Environment environment,
+			ObjectProvider<HikariDataSource> dataSources,
+			ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource,
+			ObjectProvider<ApplicationInfoManager> applicationInfoManager) {
+		this.restClientBuilder = restClientBuilder;
+		this.environment = environment;
+		this.dataSources = dataSources;
+		this.replicaRoutingDataSource = replicaRoutingDataSource;
+		this.applicationInfoManager = applicationInfoManager;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (enabled) {
+			long start = System.nanoTime();
+			try {
+				fillConnectionPools();
+				exerciseReadPaths();
+			} catch (Exception e) {
+				logger.warn("[BookCatalogue - warmup] Warm-up interrupted, continuing startup: {}", e.getMessage());
+			}
+			logger.info("[BookCatalogue - warmup] Warm-up finished in {} ms.",
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+
+		applicationInfoManager.ifAvailable(manager -> {
+			manager.setInstanceStatus(InstanceStatus.UP);
+			logger.info("[BookCatalogue - warmup] Eureka instance status set to UP.");
+		});
+	}
+
+	private void fillConnectionPools() throws InterruptedException {
+		List<HikariDataSource> pools = new ArrayList<>(dataSources.stream().toList());
+		replicaRoutingDataSource.ifAvailable(router -> pools.addAll(router.getReplicaPools()));
+
+		for (HikariDataSource dataSource : pools) {
+			try (Connection connection = dataSource.getConnection()) {
+				// Starts the pool if nothing has borrowed from it yet.
+			} catch (SQLException e) {
+				logger.warn("[BookCatalogue - warmup] Pool '{}' is unreachable: {}", dataSource.getPoolName(),
+						e.getMessage());
+				continue;
+			}
+			HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+			int target = dataSource.getMinimumIdle();
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(poolTimeoutMs);
+			while (pool.getTotalConnections() < target && System.nanoTime() < deadline) {
+				Thread.sleep(50);
+			}
+			logger.debug("[BookCatalogue - warmup] Pool '{}' has {}/{} connections.", dataSource.getPoolName(),
+					pool.getTotalConnections(), target);
+		}
+	}
+
+	private void exerciseReadPaths() {
+		RestClient client = restClientBuilder.baseUrl("http://localhost:" + localPort()).build();
+
+		JsonNode books = null;
+		for (int i = 0; i < scanIterations; i++) {
+			books = get(client, "/books");
+			get(client, "/books/search?display=true");
+		}
+
+		List<Long> isbns = hotIsbns;
+		if (isbns.isEmpty() && books != null) {
+			isbns = StreamSupport.stream(books.spliterator(), false).limit(hotIsbnLimit)
+					.map(book -> book.path("isbn").asLong()).toList();
+		}
+		if (isbns.isEmpty()) {
+			return;
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMs);
+		int lookups = 0;
+		while (lookups < iterations * isbns.size() && System.nanoTime() < deadline) {
+			get(client, "/books/{isbn}", isbns.get(lookups++ % isbns.size()));
+		}
+		logger.debug("[BookCatalogue - warmup] Ran {} scans and {} lookups over {} hot ISBNs.", scanIterations * 2,
+				lookups, isbns.size());
+	}
+
+	private static JsonNode get(RestClient client, String uri, Object... uriVariables) {
+		try {
+			return client.get().uri(uri, uriVariables).retrieve().body(JsonNode.class);
+		} catch (HttpClientErrorException e) {
+			// Empty catalogue or stale entry in the hot ISBN list, nothing to preload.
+			return null;
+		}
+	}
+
+	private String localPort() {
+		return environment.getRequiredProperty("local.server.port");
+	}
+}
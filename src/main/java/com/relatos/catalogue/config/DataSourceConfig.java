@@ -0,0 +1,103 @@
+package com.relatos.catalogue.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Routes read-only transactions to the replica pools and everything else to
+ * the primary. The lazy proxy defers the physical connection until the first
+ * statement, after the transaction manager has flagged the connection as
+ * read-only.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class DataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY_KEY);
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+			DataSourceProperties properties, ReplicaProperties replicaProperties,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		List<HikariDataSource> pools = new ArrayList<>();
+		for (int i = 0; i < replicaProperties.getReplicas().size(); i++) {
+			ReplicaProperties.Replica replica = replicaProperties.getReplicas().get(i);
+			HikariDataSource pool = new HikariDataSource();
+			pool.setPoolName("replica-" + (i + 1));
+			pool.setJdbcUrl(replica.getUrl());
+			pool.setUsername(replica.getUsername() != null ? replica.getUsername() : properties.determineUsername());
+			pool.setPassword(replica.getPassword() != null ? replica.getPassword() : properties.determinePassword());
+			pool.setDriverClassName(properties.determineDriverClassName());
+			pool.setMaximumPoolSize(replicaProperties.getReplicaPoolSize());
+			// Keep an unreachable replica from holding the lag check (and the shared scheduler) for Hikari's 30 s default.
+			pool.setConnectionTimeout(replicaProperties.getReplicaConnectionTimeoutMs());
+			pool.setReadOnly(true);
+			meterRegistry.ifAvailable(pool::setMetricRegistry);
+			pools.add(pool);
+		}
+
+		ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, pools,
+				replicaProperties.getMaxLagSeconds());
+		meterRegistry.ifAvailable(registry -> pools.forEach(pool -> {
+			Gauge.builder("catalogue.datasource.replica.lag", routingDataSource,
+					router -> router.getLagSeconds(pool.getPoolName()))
+					.tag("pool", pool.getPoolName()).baseUnit("seconds").register(registry);
+			Gauge.builder("catalogue.datasource.replica.healthy", routingDataSource,
+					router -> router.isHealthy(pool.getPoolName()) ? 1 : 0)
+					.tag("pool", pool.getPoolName()).register(registry);
+		}));
+		return routingDataSource;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+		dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+		return dataSource;
+	}
+
+	/**
+	 * Read-write template. Its transactions never set the read-only flag, so
+	 * everything inside them, including nested read-only service calls, runs
+	 * on the primary.
+	 */
+	@Bean
+	@Primary
+	public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+		return new TransactionTemplate(transactionManager);
+	}
+
+	@Bean
+	public TransactionTemplate readOnlyTransactionTemplate(PlatformTransactionManager transactionManager) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		return transactionTemplate;
+	}
+}
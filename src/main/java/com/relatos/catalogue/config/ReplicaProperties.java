@@ -0,0 +1,83 @@
+package com.relatos.catalogue.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "catalogue.datasource")
+public class ReplicaProperties {
+
+	private List<Replica> replicas = new ArrayList<>();
+
+	private double maxLagSeconds = 5;
+
+	private int replicaPoolSize = 10;
+
+	private long replicaConnectionTimeoutMs = 2000;
+
+	public List<Replica> getReplicas() {
+		return replicas;
+	}
+
+	public void setReplicas(List<Replica> replicas) {
+		this.replicas = replicas;
+	}
+
+	public double getMaxLagSeconds() {
+		return maxLagSeconds;
+	}
+
+	public void setMaxLagSeconds(double maxLagSeconds) {
+		this.maxLagSeconds = maxLagSeconds;
+	}
+
+	public int getReplicaPoolSize() {
+		return replicaPoolSize;
+	}
+
+	public void setReplicaPoolSize(int replicaPoolSize) {
+		this.replicaPoolSize = replicaPoolSize;
+	}
+
+	public long getReplicaConnectionTimeoutMs() {
+		return replicaConnectionTimeoutMs;
+	}
+
+	public void setReplicaConnectionTimeoutMs(long replicaConnectionTimeoutMs) {
+		this.replicaConnectionTimeoutMs = replicaConnectionTimeoutMs;
+	}
+
+	public static class Replica {
+
+		private String url;
+
+		private String username;
+
+		private String password;
+
+		public String getUrl() {
+			return url;
+		}
+
+		public void setUrl(String url) {
+			this.url = url;
+		}
+
+		public String getUsername() {
+			return username;
+		}
+
+		public void setUsername(String username) {
+			this.username = username;
+		}
+
+		public String getPassword() {
+			return password;
+		}
+
+		public void setPassword(String password) {
+			this.password = password;
+		}
+	}
+}
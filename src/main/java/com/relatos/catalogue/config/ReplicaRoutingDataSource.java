@@ -0,0 +1,118 @@
+package com.relatos.catalogue.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Read-only side of the primary/replica split. Each lookup picks the next
+ * healthy replica in round-robin order and falls back to the primary when
+ * every replica is unreachable or lagging beyond the configured threshold.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+	static final String PRIMARY_KEY = "primary";
+
+	private static final String LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+			+ "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())), 0) END";
+
+	private final List<ReplicaNode> replicas;
+	private final double maxLagSeconds;
+	private final AtomicInteger counter = new AtomicInteger();
+	private final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+	public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools, double maxLagSeconds) {
+		this.maxLagSeconds = maxLagSeconds;
+		this.replicas = replicaPools.stream().map(ReplicaNode::new).toList();
+
+		Map<Object, Object> targets = new HashMap<>();
+		targets.put(PRIMARY_KEY, primary);
+		this.replicas.forEach(replica -> targets.put(replica.pool.getPoolName(), replica.pool));
+		setTargetDataSources(targets);
+		setDefaultTargetDataSource(primary);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		int size = replicas.size();
+		int start = Math.floorMod(counter.getAndIncrement(), Math.max(size, 1));
+		for (int i = 0; i < size; i++) {
+			ReplicaNode replica = replicas.get((start + i) % size);
+			if (replica.healthy) {
+				return replica.pool.getPoolName();
+			}
+		}
+		return PRIMARY_KEY;
+	}
+
+	@Scheduled(fixedDelayString = "${catalogue.datasource.lag-check-interval-ms:5000}")
+	public void checkReplicas() {
+		for (ReplicaNode replica : replicas) {
+			boolean wasHealthy = replica.healthy;
+			try (Connection connection = replica.pool.getConnection();
+					Statement statement = connection.createStatement();
+					ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+				resultSet.next();
+				replica.lagSeconds = resultSet.getDouble(1);
+				replica.healthy = replica.lagSeconds <= maxLagSeconds;
+			} catch (Exception e) {
+				replica.lagSeconds = Double.NaN;
+				replica.healthy = false;
+				logger.debug("[BookCatalogue - replicas] Lag check failed on '{}': {}", replica.pool.getPoolName(),
+						e.getMessage());
+			}
+
+			if (wasHealthy != replica.healthy) {
+				logger.warn("[BookCatalogue - replicas] Replica '{}' is now {} (lag: {} s).", replica.pool.getPoolName(),
+						replica.healthy ? "in rotation" : "out of rotation", replica.lagSeconds);
+			}
+		}
+	}
+
+	@Override
+	public void destroy() {
+		// The replica pools are not beans, so nothing else closes them.
+		replicas.forEach(replica -> replica.pool.close());
+	}
+
+	public List<HikariDataSource> getReplicaPools() {
+		List<HikariDataSource> pools = new ArrayList<>();
+		replicas.forEach(replica -> pools.add(replica.pool));
+		return pools;
+	}
+
+	public double getLagSeconds(String poolName) {
+		return replicas.stream().filter(replica -> replica.pool.getPoolName().equals(poolName))
+				.mapToDouble(replica -> replica.lagSeconds).findFirst().orElse(Double.NaN);
+	}
+
+	public boolean isHealthy(String poolName) {
+		return replicas.stream().anyMatch(replica -> replica.pool.getPoolName().equals(poolName) && replica.healthy);
+	}
+
+	private static final class ReplicaNode {
+
+		private final HikariDataSource pool;
+		private volatile boolean healthy;
+		private volatile double lagSeconds = Double.NaN;
+
+		private ReplicaNode(HikariDataSource pool) {
+			this.pool = pool;
+		}
+	}
+}
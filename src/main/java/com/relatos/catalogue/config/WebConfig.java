@@ -0,0 +1,74 @@
+package com.relatos.catalogue.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.relatos.catalogue.controller.ConcurrencyLimitInterceptor;
+import com.relatos.catalogue.controller.ConcurrencyLimited;
+import com.relatos.catalogue.utils.AdaptiveConcurrencyLimiter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+	private final Map<ConcurrencyLimited.Budget, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(
+			ConcurrencyLimited.Budget.class);
+	private final int retryAfterSeconds;
+
+	public WebConfig(Environment environment, MeterRegistry meterRegistry,
+			@Value("${catalogue.limiter.retry-after-seconds:1}") int retryAfterSeconds) {
+		this.retryAfterSeconds = retryAfterSeconds;
+		for (ConcurrencyLimited.Budget budget : ConcurrencyLimited.Budget.values()) {
+			String prefix = "catalogue.limiter." + budget.name().toLowerCase() + ".";
+			AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+					environment.getProperty(prefix + "initial-limit", Integer.class, 20),
+					environment.getProperty(prefix + "min-limit", Integer.class, 2),
+					environment.getProperty(prefix + "max-limit", Integer.class, 200));
+			limiters.put(budget, limiter);
+
+			String tag = budget.name().toLowerCase();
+			Gauge.builder("catalogue.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+					.tag("budget", tag).register(meterRegistry);
+			Gauge.builder("catalogue.limiter.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+					.tag("budget", tag).register(meterRegistry);
+			FunctionCounter.builder("catalogue.limiter.rejected", limiter, AdaptiveConcurrencyLimiter::getRejectedCount)
+					.tag("budget", tag).register(meterRegistry);
+		}
+	}
+
+	/**
+	 * Binary alternatives to JSON selected through the Accept header
+	 * ({@code application/cbor}, {@code application/x-jackson-smile}). Both
+	 * reuse Boot's Jackson configuration so field names and formats match the
+	 * JSON representation.
+	 */
+	@Bean
+	public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+	}
+
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new ConcurrencyLimitInterceptor(limiters, retryAfterSeconds));
+	}
+}
@@ -20,7 +20,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.relatos.catalogue.exception.BookNotFoundException;
+import com.relatos.catalogue.exception.BookValidationException;
 import com.relatos.catalogue.model.Book;
+import com.relatos.catalogue.model.BookBatchResult;
+import com.relatos.catalogue.service.BookReadCoalescer;
 import com.relatos.catalogue.service.BookService;
 import com.relatos.catalogue.validation.PartialUpdate;
 
@@ -31,11 +35,13 @@ import jakarta.validation.Valid;
 public class BookCatalogueController {
 
 	private final BookService bookService;
+	private final BookReadCoalescer bookReadCoalescer;
 	private final Logger logger = LoggerFactory.getLogger(BookService.class);
 
 	@Autowired
-	public BookCatalogueController(BookService bookService) {
+	public BookCatalogueController(BookService bookService, BookReadCoalescer bookReadCoalescer) {
 		this.bookService = bookService;
+		this.bookReadCoalescer = bookReadCoalescer;
 	}
 
 	/**
@@ -43,6 +49,7 @@ public class BookCatalogueController {
 	 * @return
 	 */
 	@GetMapping
+	@ConcurrencyLimited(ConcurrencyLimited.Budget.SCAN)
 	@io.swagger.v3.oas.annotations.Operation(
 		    summary = "Obtener todos los libros",
 		    description = "Devuelve una lista de todos los libros disponibles en el catálogo.",
@@ -66,31 +73,25 @@ public class BookCatalogueController {
 		    }
 		)
 	public ResponseEntity<?> getBooks() {
-		try {
-			List<Book> book = bookService.getAllBooks();
-			if (book.isEmpty()) {
-				logger.error("[BookCatalogue - getAllBooks] The book list is empty. Current size: {}.", book.size());
-				return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "The book list is empty."));
-			} else {
-				logger.info("[BookCatalogue - getAllBooks] Successfully retrieved the list of books. Total books: {}.",
-						book.size());
-				logger.debug("[BookCatalogue - getBooksByISBN] Book details: {}.", book.toString());
-				return ResponseEntity.ok(book);
-			}
-		} catch (Exception e) {
-			logger.error("[BookCatalogue - getAllBooks] An error occurred while retrieving the list of books: {}",
-					e.getMessage());
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-					.body(Map.of("error", "An unexpected error occurred."));
+		List<Book> book = bookReadCoalescer.getAllBooks();
+		if (book.isEmpty()) {
+			logger.error("[BookCatalogue - getAllBooks] The book list is empty. Current size: {}.", book.size());
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "The book list is empty."));
 		}
+		logger.info("[BookCatalogue - getAllBooks] Successfully retrieved the list of books. Total books: {}.",
+				book.size());
+		logger.debug("[BookCatalogue - getBooksByISBN] Book details: {}.", book.toString());
+		return ResponseEntity.ok(book);
 	}
 
 	/**
 	 * 
 	 * @param isbn
+	 * @param includeDescription
 	 * @return
 	 */
 	@GetMapping("/{isbn}")
+	@ConcurrencyLimited(ConcurrencyLimited.Budget.READ)
 	@io.swagger.v3.oas.annotations.Operation(
 		    summary = "Obtener un libro por ISBN",
 		    description = "Devuelve los detalles de un libro específico identificado por su ISBN.",
@@ -100,6 +101,12 @@ public class BookCatalogueController {
 		            description = "ISBN del libro a buscar",
 		            required = true,
 		            example = "9781234567890"
+		        ),
+		        @io.swagger.v3.oas.annotations.Parameter(
+		            name = "includeDescription",
+		            description = "Incluir la descripción del libro en la respuesta",
+		            required = false,
+		            example = "true"
 		        )
 		    },
 		    responses = {
@@ -129,18 +136,67 @@ public class BookCatalogueController {
 		        )
 		    }
 		)
-	public ResponseEntity<?> getBooksByISBN(@PathVariable long isbn) {
-		try {
-			Book book = bookService.getBookByISBN(isbn);
-			return ResponseEntity.ok(book);
-		} catch (IllegalArgumentException e) {
-			logger.warn("[BookCatalogue - getBooksByISBN] Client error: {}", e.getMessage());
-			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
-		} catch (Exception e) {
-			logger.error("[BookCatalogue - getBooksByISBN] Server error: {}", e.getMessage());
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-					.body(Map.of("error", "An unexpected error occurred."));
+	public ResponseEntity<?> getBooksByISBN(@PathVariable long isbn,
+			@RequestParam(defaultValue = "false") boolean includeDescription) {
+		Book book = bookReadCoalescer.getBookByISBN(isbn, includeDescription);
+		return ResponseEntity.ok(book);
+	}
+
+	/**
+	 * 
+	 * @param isbns
+	 * @return
+	 */
+	@PostMapping("/batch")
+	@ConcurrencyLimited(ConcurrencyLimited.Budget.READ)
+	@io.swagger.v3.oas.annotations.Operation(
+		    summary = "Obtener varios libros por ISBN",
+		    description = "Devuelve en una sola llamada los libros de una lista de ISBN (máximo 500), separando los encontrados de los ISBN inexistentes.",
+		    requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+		        description = "Lista de ISBN a buscar",
+		        required = true,
+		        content = @io.swagger.v3.oas.annotations.media.Content(
+		            mediaType = "application/json",
+		            array = @io.swagger.v3.oas.annotations.media.ArraySchema(
+		                schema = @io.swagger.v3.oas.annotations.media.Schema(type = "integer", format = "int64", example = "9781234567890")
+		            )
+		        )
+		    ),
+		    responses = {
+		        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+		            responseCode = "200",
+		            description = "Libros encontrados e ISBN inexistentes",
+		            content = @io.swagger.v3.oas.annotations.media.Content(
+		                mediaType = "application/json",
+		                schema = @io.swagger.v3.oas.annotations.media.Schema(implementation = BookBatchResult.class)
+		            )
+		        ),
+		        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+		            responseCode = "400",
+		            description = "Lista vacía o con más de 500 ISBN",
+		            content = @io.swagger.v3.oas.annotations.media.Content(
+		                mediaType = "application/json",
+		                schema = @io.swagger.v3.oas.annotations.media.Schema
+		            )
+		        ),
+		        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+		            responseCode = "500",
+		            description = "Error inesperado en el servidor",
+		            content = @io.swagger.v3.oas.annotations.media.Content(
+		                mediaType = "application/json",
+		                schema = @io.swagger.v3.oas.annotations.media.Schema
+		            )
+		        )
+		    }
+		)
+	public ResponseEntity<?> getBooksByISBNs(@RequestBody List<Long> isbns) {
+		if (isbns == null || isbns.isEmpty()) {
+			throw new BookValidationException("The ISBN list cannot be empty.");
 		}
+		BookBatchResult result = bookService.getBooksByISBNs(isbns);
+		logger.info("[BookCatalogue - getBooksByISBNs] Resolved {} books, {} missing.", result.found().size(),
+				result.missing().size());
+		return ResponseEntity.ok(result);
 	}
 
 	/**
@@ -155,6 +211,7 @@ public class BookCatalogueController {
 	 * @return
 	 */
 	@GetMapping("/search")
+	@ConcurrencyLimited(ConcurrencyLimited.Budget.SCAN)
 	@io.swagger.v3.oas.annotations.Operation(
 		    summary = "Buscar libros por múltiples filtros",
 		    description = "Permite buscar libros combinando varios criterios como título, autor, género, ISBN, calificación y visibilidad.",
@@ -230,18 +287,12 @@ public class BookCatalogueController {
 	        @RequestParam(required = false) Long isbn,
 	        @RequestParam(required = false) Double rate,
 	        @RequestParam(required = false) Boolean display) {
-	    try {
-	        List<Book> books = bookService.searchBooks(title, author, genre, isbn, rate, display);
-	        if (books.isEmpty()) {
-	            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-	                    .body(Map.of("error", "No books matching the criteria were found."));
-	        }
-	        return ResponseEntity.ok(books);
-	    } catch (Exception e) {
-	        logger.error("[BookCatalogue - searchBooks] Unexpected error: {}", e.getMessage());
-	        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-	                .body(Map.of("error", "An unexpected error occurred."));
+	    List<Book> books = bookReadCoalescer.searchBooks(title, author, genre, isbn, rate, display);
+	    if (books.isEmpty()) {
+	        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+	                .body(Map.of("error", "No books matching the criteria were found."));
 	    }
+	    return ResponseEntity.ok(books);
 	}
 
 	/**
@@ -289,17 +340,8 @@ public class BookCatalogueController {
 		    }
 		)
 	public ResponseEntity<?> createBook(@RequestBody @Valid Book book) {
-		try {
-			Book createdBook = bookService.createBook(book);
-			return ResponseEntity.status(HttpStatus.CREATED).body(createdBook);
-		} catch (IllegalArgumentException e) {
-			logger.warn("[BookCatalogue - createBook] Client error: {}", e.getMessage());
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
-		} catch (Exception e) {
-			logger.error("[BookCatalogue - createBook] Server error: {}", e.getMessage());
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-					.body(Map.of("error", "An unexpected error occurred."));
-		}
+		Book createdBook = bookService.createBook(book);
+		return ResponseEntity.status(HttpStatus.CREATED).body(createdBook);
 	}
 
 	/**
@@ -356,16 +398,8 @@ public class BookCatalogueController {
 		    }
 		)
 	public ResponseEntity<?> updateBook(@PathVariable long isbn, @RequestBody Book updateBook) {
-	    try {
-	        Book updatedBook = bookService.updateBook(isbn, updateBook);
-	        return ResponseEntity.ok(updatedBook);
-	    } catch (IllegalArgumentException e) {
-	        logger.warn("[BookCatalogue - updateBook] Client error: {}", e.getMessage());
-	        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
-	    } catch (Exception e) {
-	        logger.error("[BookCatalogue - updateBook] Server error: {}", e.getMessage());
-	        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", "An unexpected error occurred."));
-	    }
+	    Book updatedBook = bookService.updateBook(isbn, updateBook);
+	    return ResponseEntity.ok(updatedBook);
 	}
 
 	/**
@@ -431,19 +465,12 @@ public class BookCatalogueController {
 		)
 	public ResponseEntity<?> partialUpdateBook(@Valid @PathVariable long isbn,
 			@Validated(PartialUpdate.class) @RequestBody Book updateBook) {
-		try {
-			Book book = bookService.partialUpdateBook(isbn, updateBook);
-			logger.info(
-					"[BookCatalogue - partialUpdateBook] Successfully performed a partial update on the book titled '{}'.",
-					book.getTitle());
-			logger.debug("[BookCatalogue - partialUpdateBook] Partially updated book details: {}.", book.toString());
-			return ResponseEntity.ok(book);
-		} catch (Exception e) {
-			logger.error(
-					"[BookCatalogue - partialUpdateBook] Error: Failed to partially update the book with ISBN: {}.",
-					isbn);
-			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
-		}
+		Book book = bookService.partialUpdateBook(isbn, updateBook);
+		logger.info(
+				"[BookCatalogue - partialUpdateBook] Successfully performed a partial update on the book titled '{}'.",
+				book.getTitle());
+		logger.debug("[BookCatalogue - partialUpdateBook] Partially updated book details: {}.", book.toString());
+		return ResponseEntity.ok(book);
 	}
 
 	/**
@@ -487,23 +514,11 @@ public class BookCatalogueController {
 		    }
 		)
 	public ResponseEntity<?> deleteBookByISBN(@Valid @PathVariable long isbn) {
-		try {
-			boolean isDeleted = bookService.deleteBookByISBN(isbn);
-			if (isDeleted) {
-				logger.info("[BookCatalogue - deleteBookByISBN] Successfully deleted the book with ISBN: {}.", isbn);
-				return ResponseEntity.noContent().build();
-			} else {
-				logger.error("[BookCatalogue - deleteBookByISBN] Book not found with ISBN: {}.", isbn);
-				return ResponseEntity.status(HttpStatus.NOT_FOUND)
-						.body(Map.of("error", "The book with the provided ISBN was not found."));
-			}
-		} catch (Exception e) {
-			logger.error(
-					"[BookCatalogue - deleteBookByISBN] Unexpected error while trying to delete the book with ISBN: {}. Error: {}",
-					isbn, e.getMessage());
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-					.body(Map.of("error", "An unexpected error occurred."));
+		if (!bookService.deleteBookByISBN(isbn)) {
+			throw new BookNotFoundException("The book with the provided ISBN was not found.");
 		}
+		logger.info("[BookCatalogue - deleteBookByISBN] Successfully deleted the book with ISBN: {}.", isbn);
+		return ResponseEntity.noContent().build();
 	}
 
 }
@@ -0,0 +1,79 @@
+package com.relatos.catalogue.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.relatos.catalogue.model.BookChangePage;
+import com.relatos.catalogue.service.BookChangeFeed;
+
+@RestController
+@RequestMapping("/books/changes")
+public class BookChangeFeedController {
+
+	private static final int MAX_LIMIT = 1000;
+	private static final int MAX_WAIT_SECONDS = 30;
+
+	private final BookChangeFeed bookChangeFeed;
+
+	@Autowired
+	public BookChangeFeedController(BookChangeFeed bookChangeFeed) {
+		this.bookChangeFeed = bookChangeFeed;
+	}
+
+	/**
+	 * 
+	 * @param after
+	 * @param limit
+	 * @param waitSeconds
+	 * @return
+	 */
+	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+	@io.swagger.v3.oas.annotations.Operation(
+		    summary = "Consumir el feed de cambios del catálogo",
+		    description = "Devuelve, en orden, los cambios publicados después del offset indicado. Si no hay cambios, la petición espera hasta waitSeconds (long-poll). El campo nextOffset de la respuesta es el valor de after para la siguiente petición.",
+		    parameters = {
+		        @io.swagger.v3.oas.annotations.Parameter(
+		            name = "after",
+		            description = "Último offset procesado por el consumidor",
+		            required = false,
+		            example = "0"
+		        ),
+		        @io.swagger.v3.oas.annotations.Parameter(
+		            name = "limit",
+		            description = "Número máximo de eventos a devolver (máximo 1000)",
+		            required = false,
+		            example = "100"
+		        ),
+		        @io.swagger.v3.oas.annotations.Parameter(
+		            name = "waitSeconds",
+		            description = "Tiempo máximo de espera si no hay cambios (máximo 30)",
+		            required = false,
+		            example = "20"
+		        )
+		    },
+		    responses = {
+		        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+		            responseCode = "200",
+		            description = "Página de cambios, vacía si se agotó la espera",
+		            content = @io.swagger.v3.oas.annotations.media.Content(
+		                mediaType = "application/json",
+		                schema = @io.swagger.v3.oas.annotations.media.Schema(implementation = BookChangePage.class)
+		            )
+		        )
+		    }
+		)
+	public DeferredResult<BookChangePage> getChanges(
+			@RequestParam(defaultValue = "0") long after,
+			@RequestParam(defaultValue = "100") int limit,
+			@RequestParam(defaultValue = "20") int waitSeconds) {
+		int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+		int boundedWait = Math.max(1, Math.min(waitSeconds, MAX_WAIT_SECONDS));
+		return bookChangeFeed.poll(Math.max(after, 0), boundedLimit, boundedWait * 1000L);
+	}
+
+}
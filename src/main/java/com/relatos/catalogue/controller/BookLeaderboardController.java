@@ -0,0 +1,70 @@
+package com.relatos.catalogue.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.relatos.catalogue.model.LeaderboardEntry;
+import com.relatos.catalogue.service.BookLeaderboard;
+
+@RestController
+@RequestMapping("/books/leaderboard")
+public class BookLeaderboardController {
+
+	private final BookLeaderboard bookLeaderboard;
+
+	@Autowired
+	public BookLeaderboardController(BookLeaderboard bookLeaderboard) {
+		this.bookLeaderboard = bookLeaderboard;
+	}
+
+	/**
+	 * 
+	 * @param genre
+	 * @param limit
+	 * @return
+	 */
+	@GetMapping
+	@ConcurrencyLimited(ConcurrencyLimited.Budget.READ)
+	@io.swagger.v3.oas.annotations.Operation(
+		    summary = "Libros mejor valorados",
+		    description = "Devuelve los libros visibles con mejor valoración, en general o de un género, ordenados de mayor a menor valoración.",
+		    parameters = {
+		        @io.swagger.v3.oas.annotations.Parameter(
+		            name = "genre",
+		            description = "Género del ranking; si se omite se devuelve el ranking general",
+		            required = false,
+		            example = "Science Fiction"
+		        ),
+		        @io.swagger.v3.oas.annotations.Parameter(
+		            name = "limit",
+		            description = "Número de libros a devolver (como máximo catalogue.leaderboard.size)",
+		            required = false,
+		            example = "20"
+		        )
+		    },
+		    responses = {
+		        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+		            responseCode = "200",
+		            description = "Ranking obtenido con éxito",
+		            content = @io.swagger.v3.oas.annotations.media.Content(
+		                mediaType = "application/json",
+		                schema = @io.swagger.v3.oas.annotations.media.Schema(implementation = LeaderboardEntry.class)
+		            )
+		        )
+		    }
+		)
+	public ResponseEntity<List<LeaderboardEntry>> getLeaderboard(
+			@RequestParam(required = false) String genre,
+			@RequestParam(required = false) Integer limit) {
+		int size = bookLeaderboard.getSize();
+		int boundedLimit = limit == null ? size : Math.max(1, Math.min(limit, size));
+		return ResponseEntity.ok(bookLeaderboard.top(genre, boundedLimit));
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.relatos.catalogue.controller;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.relatos.catalogue.model.Book;
+import com.relatos.catalogue.model.CatalogueFilter;
+import com.relatos.catalogue.model.CatalogueStats;
+import com.relatos.catalogue.service.BookService;
+import com.relatos.catalogue.service.CatalogueSnapshot;
+
+@RestController
+@RequestMapping("/books/analytics")
+public class CatalogueAnalyticsController {
+
+	private final CatalogueSnapshot catalogueSnapshot;
+	private final Logger logger = LoggerFactory.getLogger(CatalogueAnalyticsController.class);
+
+	@Autowired
+	public CatalogueAnalyticsController(CatalogueSnapshot catalogueSnapshot) {
+		this.catalogueSnapshot = catalogueSnapshot;
+	}
+
+	/**
+	 * 
+	 * @return
+	 */
+	@GetMapping("/stats")
+	@ConcurrencyLimited(ConcurrencyLimited.Budget.READ)
+	@io.swagger.v3.oas.annotations.Operation(
+		    summary = "Estadísticas del catálogo",
+		    description = "Calcula número de libros, precio mínimo, máximo y medio y valoración media de los libros que cumplen los filtros, a partir de la instantánea en memoria del catálogo.",
+		    responses = {
+		        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+		            responseCode = "200",
+		            description = "Estadísticas calculadas con éxito",
+		            content = @io.swagger.v3.oas.annotations.media.Content(
+		                mediaType = "application/json",
+		                schema = @io.swagger.v3.oas.annotations.media.Schema(implementation = CatalogueStats.class)
+		            )
+		        )
+		    }
+		)
+	public ResponseEntity<CatalogueStats> getStats(
+			@RequestParam(required = false) String genre,
+			@RequestParam(required = false) String author,
+			@RequestParam(required = false) Double minRate,
+			@RequestParam(required = false) Double maxRate,
+			@RequestParam(required = false) Double minPrice,
+			@RequestParam(required = false) Double maxPrice,
+			@RequestParam(required = false) Boolean display) {
+		CatalogueFilter filter = new CatalogueFilter(genre, author, minRate, maxRate, minPrice, maxPrice, display);
+		CatalogueStats stats = catalogueSnapshot.stats(filter);
+		logger.debug("[BookCatalogue - analytics] Stats for {}: {}", filter, stats);
+		return ResponseEntity.ok(stats);
+	}
+
+	/**
+	 * 
+	 * @return
+	 */
+	@GetMapping("/books")
+	@ConcurrencyLimited(ConcurrencyLimited.Budget.READ)
+	@io.swagger.v3.oas.annotations.Operation(
+		    summary = "Filtrar libros sobre la instantánea del catálogo",
+		    description = "Evalúa los filtros sobre la instantánea en memoria y carga de la base de datos sólo los libros que coinciden (máximo 500).",
+		    responses = {
+		        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+		            responseCode = "200",
+		            description = "Libros que cumplen los filtros",
+		            content = @io.swagger.v3.oas.annotations.media.Content(
+		                mediaType = "application/json",
+		                schema = @io.swagger.v3.oas.annotations.media.Schema(implementation = Book.class)
+		            )
+		        )
+		    }
+		)
+	public ResponseEntity<List<Book>> getBooks(
+			@RequestParam(required = false) String genre,
+			@RequestParam(required = false) String author,
+			@RequestParam(required = false) Double minRate,
+			@RequestParam(required = false) Double maxRate,
+			@RequestParam(required = false) Double minPrice,
+			@RequestParam(required = false) Double maxPrice,
+			@RequestParam(required = false) Boolean display,
+			@RequestParam(defaultValue = "100") int limit) {
+		CatalogueFilter filter = new CatalogueFilter(genre, author, minRate, maxRate, minPrice, maxPrice, display);
+		int boundedLimit = Math.max(1, Math.min(limit, BookService.MAX_BATCH_SIZE));
+		List<Book> books = catalogueSnapshot.findBooks(filter, boundedLimit);
+		logger.debug("[BookCatalogue - analytics] {} books match {}.", books.size(), filter);
+		return ResponseEntity.ok(books);
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.relatos.catalogue.controller;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.relatos.catalogue.utils.AdaptiveConcurrencyLimiter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sheds load with 503 and Retry-After once an endpoint's budget is exhausted,
+ * instead of letting requests queue on Tomcat threads waiting for a connection.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+	private static final String LIMITER_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".limiter";
+	private static final String START_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".start";
+
+	private final Map<ConcurrencyLimited.Budget, AdaptiveConcurrencyLimiter> limiters;
+	private final int retryAfterSeconds;
+	private final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitInterceptor.class);
+
+	public ConcurrencyLimitInterceptor(Map<ConcurrencyLimited.Budget, AdaptiveConcurrencyLimiter> limiters,
+			int retryAfterSeconds) {
+		this.limiters = limiters;
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+			throws Exception {
+		if (!(handler instanceof HandlerMethod handlerMethod)) {
+			return true;
+		}
+		ConcurrencyLimited annotation = handlerMethod.getMethodAnnotation(ConcurrencyLimited.class);
+		if (annotation == null) {
+			return true;
+		}
+
+		AdaptiveConcurrencyLimiter limiter = limiters.get(annotation.value());
+		if (!limiter.tryAcquire()) {
+			logger.debug("[BookCatalogue - limiter] Rejected {} {}: {} budget at limit {}.", request.getMethod(),
+					request.getRequestURI(), annotation.value(), limiter.getLimit());
+			response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			response.getWriter().write("{\"error\":\"The service is overloaded, please retry later.\"}");
+			return false;
+		}
+
+		request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+		request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		if (request.getAttribute(LIMITER_ATTRIBUTE) instanceof AdaptiveConcurrencyLimiter limiter) {
+			long rtt = System.nanoTime() - (long) request.getAttribute(START_ATTRIBUTE);
+			boolean dropped = ex != null || response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+			limiter.release(rtt, dropped);
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package com.relatos.catalogue.controller;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Places the endpoint under one of the adaptive concurrency budgets enforced
+ * by {@link ConcurrencyLimitInterceptor}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimited {
+
+	Budget value();
+
+	enum Budget {
+		/** Primary-key lookups. */
+		READ,
+		/** Full-table reads such as the book list and searches. */
+		SCAN
+	}
+}
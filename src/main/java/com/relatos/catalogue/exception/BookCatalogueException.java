@@ -0,0 +1,13 @@
+package com.relatos.catalogue.exception;
+
+/**
+ * Base type for expected catalogue outcomes (not found, duplicate, invalid
+ * input). These are part of normal traffic, so they are created without a
+ * stack trace and mapped to an HTTP status by {@link GlobalExceptionHandler}.
+ */
+@SuppressWarnings("serial")
+public abstract class BookCatalogueException extends RuntimeException {
+	protected BookCatalogueException(String message) {
+		super(message, null, false, false);
+	}
+}
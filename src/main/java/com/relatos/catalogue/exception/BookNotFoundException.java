@@ -1,8 +1,8 @@
 package com.relatos.catalogue.exception;
 
 @SuppressWarnings("serial")
-public class BookNotFoundException extends RuntimeException {
+public class BookNotFoundException extends BookCatalogueException {
 	public BookNotFoundException(String message) {
 		super(message);
 	}
-}
\ No newline at end of file
+}
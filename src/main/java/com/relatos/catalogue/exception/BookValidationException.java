@@ -0,0 +1,8 @@
+package com.relatos.catalogue.exception;
+
+@SuppressWarnings("serial")
+public class BookValidationException extends BookCatalogueException {
+	public BookValidationException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,8 @@
+package com.relatos.catalogue.exception;
+
+@SuppressWarnings("serial")
+public class CoalescedLoadTimeoutException extends RuntimeException {
+	public CoalescedLoadTimeoutException(String message) {
+		super(message);
+	}
+}
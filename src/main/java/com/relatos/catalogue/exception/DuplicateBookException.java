@@ -1,8 +1,8 @@
 package com.relatos.catalogue.exception;
 
 @SuppressWarnings("serial")
-public class DuplicateBookException extends RuntimeException {
+public class DuplicateBookException extends BookCatalogueException {
     public DuplicateBookException(String message) {
         super(message);
     }
-}
\ No newline at end of file
+}
@@ -2,13 +2,17 @@ package com.relatos.catalogue.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import com.relatos.catalogue.service.BookService;
+import com.relatos.catalogue.utils.RateLimitedLogger;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,6 +21,7 @@ import java.util.Map;
 public class GlobalExceptionHandler {
 	
 	private final Logger logger = LoggerFactory.getLogger(BookService.class);
+	private final RateLimitedLogger clientErrorLogger = new RateLimitedLogger(logger, 10);
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
@@ -25,19 +30,51 @@ public class GlobalExceptionHandler {
             errors.put(error.getField(), error.getDefaultMessage());
         });
 
-        logger.warn("[Validation Error] Fields with errors: {}", errors);
+        clientErrorLogger.warn("[Validation Error] Fields with errors: {}", errors);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
     }
 
+    @ExceptionHandler(BookNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleBookNotFoundException(BookNotFoundException ex) {
+        clientErrorLogger.warn("[Not Found] {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", ex.getMessage()));
+    }
+
+    @ExceptionHandler({ DuplicateBookException.class, BookValidationException.class })
+    public ResponseEntity<Map<String, String>> handleBookCatalogueException(BookCatalogueException ex) {
+        clientErrorLogger.warn("[Client Error] {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", ex.getMessage()));
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, String>> handleTypeMismatchException(MethodArgumentTypeMismatchException ex) {
+        clientErrorLogger.warn("[Client Error] Invalid value for '{}'", ex.getName());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Invalid value for parameter '" + ex.getName() + "'."));
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<Map<String, String>> handleMessageNotReadableException(HttpMessageNotReadableException ex) {
+        clientErrorLogger.warn("[Client Error] Unreadable request body: {}", ex.getMostSpecificCause().getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", "Malformed request body."));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException ex) {
-        logger.warn("[Client Error] {}", ex.getMessage());
+        clientErrorLogger.warn("[Client Error] {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", ex.getMessage()));
     }
 
+    @ExceptionHandler(CoalescedLoadTimeoutException.class)
+    public ResponseEntity<Map<String, String>> handleCoalescedLoadTimeoutException(CoalescedLoadTimeoutException ex) {
+        clientErrorLogger.warn("[Overload] {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", "The service is overloaded, please retry later."));
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, String>> handleRuntimeException(RuntimeException ex) {
         logger.error("[Server Error] Unexpected error: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", "An unexpected error occurred."));
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,10 @@ package com.relatos.catalogue.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -40,8 +44,9 @@ public class Book {
 	@Pattern(regexp = "^(http|https)://.*$", message = "Cover must be a valid URL")
 	private String cover;
 
+	// Stored in book_descriptions and only loaded when a caller asks for it.
 	@Size(max = 5000, message = "Description cannot exceed 5000 characters")
-	@Column(columnDefinition = "TEXT")
+	@Transient
 	private String description;
 
 	@Pattern(regexp = "^\\d{4}-\\d{2}-\\d{2}$", message = "Publication date must follow the format yyyy-MM-dd")
@@ -50,6 +55,7 @@ public class Book {
 	@ElementCollection
 	@CollectionTable(name = "book_genre", joinColumns = @JoinColumn(name = "book_isbn"))
 	@Column(name = "genre")
+	@BatchSize(size = 500)
 	@NotEmpty(message = "Genres cannot be empty")
 	@Size(max = 10, message = "A book cannot have more than 10 genres")
 	private List<String> genre = new ArrayList<>();
@@ -100,6 +106,7 @@ public class Book {
 		this.cover = cover;
 	}
 
+	@JsonInclude(JsonInclude.Include.NON_NULL)
 	public String getDescription() {
 		return description;
 	}
@@ -0,0 +1,6 @@
+package com.relatos.catalogue.model;
+
+import java.util.List;
+
+public record BookBatchResult(List<Book> found, List<Long> missing) {
+}
@@ -0,0 +1,99 @@
+package com.relatos.catalogue.model;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "book_change_events")
+public class BookChangeEvent {
+
+	public enum Type {
+		CREATED, UPDATED, DELETED
+	}
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "feed_offset", unique = true)
+	private Long feedOffset;
+
+	@Column(nullable = false)
+	private long isbn;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private Type type;
+
+	@Column(columnDefinition = "TEXT")
+	private String payload;
+
+	@Column(nullable = false)
+	private Instant createdAt;
+
+	@JsonIgnore
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	@JsonIgnore
+	public Long getFeedOffset() {
+		return feedOffset;
+	}
+
+	public void setFeedOffset(Long feedOffset) {
+		this.feedOffset = feedOffset;
+	}
+
+	public Long getOffset() {
+		return feedOffset;
+	}
+
+	public long getIsbn() {
+		return isbn;
+	}
+
+	public void setIsbn(long isbn) {
+		this.isbn = isbn;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public void setType(Type type) {
+		this.type = type;
+	}
+
+	@JsonRawValue
+	public String getPayload() {
+		return payload;
+	}
+
+	public void setPayload(String payload) {
+		this.payload = payload;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(Instant createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	@Override
+	public String toString() {
+		return "BookChangeEvent [id=" + id + ", feedOffset=" + feedOffset + ", isbn=" + isbn + ", type=" + type
+				+ ", createdAt=" + createdAt + "]";
+	}
+
+}
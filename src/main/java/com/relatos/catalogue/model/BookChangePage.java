@@ -0,0 +1,6 @@
+package com.relatos.catalogue.model;
+
+import java.util.List;
+
+public record BookChangePage(List<BookChangeEvent> events, long nextOffset) {
+}
@@ -0,0 +1,40 @@
+package com.relatos.catalogue.model;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "book_descriptions")
+public class BookDescription {
+
+	@Id
+	@Column(name = "book_isbn", nullable = false)
+	private long isbn;
+
+	@Column(columnDefinition = "TEXT", nullable = false)
+	private String description;
+
+	public BookDescription() {
+	}
+
+	public BookDescription(long isbn, String description) {
+		this.isbn = isbn;
+		this.description = description;
+	}
+
+	public long getIsbn() {
+		return isbn;
+	}
+
+	public void setIsbn(long isbn) {
+		this.isbn = isbn;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+}
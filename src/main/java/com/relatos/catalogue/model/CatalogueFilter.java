@@ -0,0 +1,9 @@
+package com.relatos.catalogue.model;
+
+public record CatalogueFilter(String genre, String author, Double minRate, Double maxRate, Double minPrice,
+		Double maxPrice, Boolean display) {
+
+	public boolean hasRowPredicates() {
+		return author != null || minRate != null || maxRate != null || minPrice != null || maxPrice != null;
+	}
+}
@@ -0,0 +1,4 @@
+package com.relatos.catalogue.model;
+
+public record CatalogueStats(int count, Double minPrice, Double maxPrice, Double averagePrice, Double averageRate) {
+}
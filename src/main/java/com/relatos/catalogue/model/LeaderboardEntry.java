@@ -0,0 +1,9 @@
+package com.relatos.catalogue.model;
+
+public record LeaderboardEntry(long isbn, String title, String author, double rate, double price, String cover) {
+
+	public static LeaderboardEntry of(Book book) {
+		return new LeaderboardEntry(book.getISBN(), book.getTitle(), book.getAuthor(), book.getRate(), book.getPrice(),
+				book.getCover());
+	}
+}
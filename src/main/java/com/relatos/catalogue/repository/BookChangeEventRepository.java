@@ -0,0 +1,22 @@
+package com.relatos.catalogue.repository;
+
+import com.relatos.catalogue.model.BookChangeEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface BookChangeEventRepository extends JpaRepository<BookChangeEvent, Long> {
+
+	List<BookChangeEvent> findByFeedOffsetIsNullOrderByIdAsc(Limit limit);
+
+	List<BookChangeEvent> findByFeedOffsetGreaterThanOrderByFeedOffsetAsc(long after, Limit limit);
+
+	@Query("select coalesce(max(e.feedOffset), 0) from BookChangeEvent e")
+	long findLatestOffset();
+
+	@Query(value = "select pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+	boolean tryAdvisoryLock(long key);
+
+}
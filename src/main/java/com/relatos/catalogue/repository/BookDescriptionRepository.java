@@ -0,0 +1,8 @@
+package com.relatos.catalogue.repository;
+
+import com.relatos.catalogue.model.BookDescription;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BookDescriptionRepository extends JpaRepository<BookDescription, Long> {
+
+}
@@ -0,0 +1,189 @@
+package com.relatos.catalogue.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.relatos.catalogue.model.Book;
+import com.relatos.catalogue.model.BookChangeEvent;
+import com.relatos.catalogue.model.BookChangePage;
+import com.relatos.catalogue.model.BookDescription;
+import com.relatos.catalogue.repository.BookChangeEventRepository;
+import com.relatos.catalogue.repository.BookDescriptionRepository;
+
+/**
+ * Transactional outbox for catalogue writes and the ordered feed built on top
+ * of it. Events are appended in the writer's transaction without an offset and
+ * the relay assigns offsets in insertion order under an advisory lock, so only
+ * one instance publishes at a time and consumers never see an offset appear
+ * behind one they already read. Insertion order follows commit order per book:
+ * {@link BookService} flushes the book change before publishing, so a second
+ * writer to the same book blocks on the row lock until the first has committed
+ * its event. Payloads always carry {@code description}, null when
+ * the book has none, so consumers can apply them as full replacements.
+ *
+ * Feed reads run in a single repeatable-read transaction so the latest offset
+ * and the page returned to a waiter come from the same snapshot.
+ */
+@Service
+public class BookChangeFeed {
+
+	private static final long RELAY_LOCK_KEY = 0x626f6f6b66656564L;
+
+	private final BookChangeEventRepository eventRepository;
+	private final BookDescriptionRepository descriptionRepository;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate snapshotTransaction;
+	private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+	private final Logger logger = LoggerFactory.getLogger(BookChangeFeed.class);
+
+	@Value("${catalogue.changes.relay-batch-size:500}")
+	private int relayBatchSize;
+
+	public BookChangeFeed(BookChangeEventRepository eventRepository, BookDescriptionRepository descriptionRepository,
+			ObjectMapper objectMapper,
+			@Qualifier("readOnlyTransactionTemplate") TransactionTemplate readOnlyTransaction) {
+		this.eventRepository = eventRepository;
+		this.descriptionRepository = descriptionRepository;
+		this.objectMapper = objectMapper;
+		this.snapshotTransaction = new TransactionTemplate(readOnlyTransaction.getTransactionManager(),
+				readOnlyTransaction);
+		this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void append(BookChangedEvent change) {
+		BookChangeEvent event = new BookChangeEvent();
+		event.setIsbn(change.isbn());
+		event.setType(change.type());
+		event.setCreatedAt(Instant.now());
+		if (change.book() != null) {
+			try {
+				event.setPayload(objectMapper.writeValueAsString(payload(change.book())));
+			} catch (JsonProcessingException e) {
+				throw new IllegalStateException("Unable to serialize book " + change.isbn(), e);
+			}
+		}
+		eventRepository.save(event);
+		logger.debug("[BookCatalogue - changes] Appended {} event for ISBN {} to the outbox.", change.type(),
+				change.isbn());
+	}
+
+	private ObjectNode payload(Book book) {
+		String description = book.getDescription();
+		if (description == null) {
+			description = descriptionRepository.findById(book.getISBN()).map(BookDescription::getDescription)
+					.orElse(null);
+		}
+		ObjectNode payload = objectMapper.valueToTree(book);
+		payload.put("description", description);
+		return payload;
+	}
+
+	@Transactional
+	@Scheduled(fixedDelayString = "${catalogue.changes.relay-interval-ms:200}")
+	public void relay() {
+		if (!eventRepository.tryAdvisoryLock(RELAY_LOCK_KEY)) {
+			return;
+		}
+
+		List<BookChangeEvent> pending = eventRepository.findByFeedOffsetIsNullOrderByIdAsc(Limit.of(relayBatchSize));
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		long offset = eventRepository.findLatestOffset();
+		for (BookChangeEvent event : pending) {
+			event.setFeedOffset(++offset);
+		}
+		eventRepository.saveAll(pending);
+		logger.debug("[BookCatalogue - changes] Published {} events up to offset {}.", pending.size(), offset);
+	}
+
+	public BookChangePage read(long after, int limit) {
+		return snapshotTransaction.execute(status -> page(after, limit));
+	}
+
+	private BookChangePage page(long after, int limit) {
+		List<BookChangeEvent> events = eventRepository.findByFeedOffsetGreaterThanOrderByFeedOffsetAsc(after,
+				Limit.of(limit));
+		long nextOffset = events.isEmpty() ? after : events.get(events.size() - 1).getFeedOffset();
+		return new BookChangePage(events, nextOffset);
+	}
+
+	/**
+	 * Highest published offset. Called inside a caller's transaction, it belongs
+	 * to the same snapshot as the caller's other reads.
+	 */
+	public long latestOffset() {
+		return eventRepository.findLatestOffset();
+	}
+
+	/**
+	 * Turns a published event back into the change it records, with the book
+	 * read from the payload.
+	 */
+	public BookChangedEvent toChange(BookChangeEvent event) {
+		Book book = null;
+		if (event.getPayload() != null) {
+			try {
+				book = objectMapper.readValue(event.getPayload(), Book.class);
+			} catch (JsonProcessingException e) {
+				throw new IllegalStateException("Unable to read payload of event at offset " + event.getOffset(), e);
+			}
+		}
+		return new BookChangedEvent(event.getType(), event.getIsbn(), book);
+	}
+
+	public DeferredResult<BookChangePage> poll(long after, int limit, long waitMs) {
+		DeferredResult<BookChangePage> result = new DeferredResult<>(waitMs, () -> read(after, limit));
+
+		BookChangePage page = read(after, limit);
+		if (!page.events().isEmpty()) {
+			result.setResult(page);
+			return result;
+		}
+
+		Waiter waiter = new Waiter(after, limit, result);
+		waiters.add(waiter);
+		result.onCompletion(() -> waiters.remove(waiter));
+		return result;
+	}
+
+	@Scheduled(fixedDelayString = "${catalogue.changes.poll-interval-ms:500}")
+	public void notifyWaiters() {
+		if (waiters.isEmpty()) {
+			return;
+		}
+
+		snapshotTransaction.executeWithoutResult(status -> {
+			long latest = eventRepository.findLatestOffset();
+			for (Waiter waiter : waiters) {
+				if (waiter.after < latest && !waiter.result.isSetOrExpired()) {
+					waiter.result.setResult(page(waiter.after, waiter.limit));
+				}
+			}
+		});
+	}
+
+	private record Waiter(long after, int limit, DeferredResult<BookChangePage> result) {
+	}
+}
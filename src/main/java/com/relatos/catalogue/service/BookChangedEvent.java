@@ -0,0 +1,12 @@
+package com.relatos.catalogue.service;
+
+import com.relatos.catalogue.model.Book;
+import com.relatos.catalogue.model.BookChangeEvent;
+
+/**
+ * Published by {@link BookService} inside the write transaction, once the book
+ * change has been flushed. {@code book} is the saved state, or {@code null} for
+ * deletions.
+ */
+public record BookChangedEvent(BookChangeEvent.Type type, long isbn, Book book) {
+}
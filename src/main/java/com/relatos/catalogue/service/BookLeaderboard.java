@@ -0,0 +1,70 @@
+package com.relatos.catalogue.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.relatos.catalogue.model.Book;
+import com.relatos.catalogue.model.BookChangeEvent;
+import com.relatos.catalogue.model.LeaderboardEntry;
+
+/**
+ * Top-rated books overall and per genre, answered from memory and kept current
+ * from the change feed, so writes made on any instance reach every board. A
+ * board that can no longer prove its top entries are correct is repaired
+ * within {@code catalogue.leaderboard.repair-interval-ms}, and all boards are
+ * rebuilt every {@code catalogue.leaderboard.rebuild-interval-ms}.
+ */
+@Service
+@Order(0)
+public class BookLeaderboard extends CatalogueView<Leaderboards> {
+
+	private final int size;
+
+	public BookLeaderboard(BookService bookService, BookChangeFeed changeFeed, TransactionTemplate transactionTemplate,
+			@Value("${catalogue.leaderboard.size:20}") int size) {
+		super(bookService, changeFeed, transactionTemplate, new Leaderboards(size));
+		this.size = size;
+	}
+
+	@Scheduled(fixedDelayString = "${catalogue.leaderboard.repair-interval-ms:30000}")
+	public void repair() {
+		if (read(Leaderboards::needsRebuild)) {
+			rebuild();
+		}
+	}
+
+	@Scheduled(initialDelayString = "${catalogue.leaderboard.rebuild-interval-ms:600000}",
+			fixedDelayString = "${catalogue.leaderboard.rebuild-interval-ms:600000}")
+	public void scheduledRebuild() {
+		rebuild();
+	}
+
+	@Override
+	protected Leaderboards build(List<Book> books) {
+		Leaderboards leaderboards = new Leaderboards(size);
+		books.forEach(leaderboards::upsert);
+		return leaderboards;
+	}
+
+	@Override
+	protected void apply(Leaderboards target, BookChangedEvent change) {
+		if (change.type() == BookChangeEvent.Type.DELETED) {
+			target.remove(change.isbn());
+		} else {
+			target.upsert(change.book());
+		}
+	}
+
+	public List<LeaderboardEntry> top(String genre, int limit) {
+		return read(leaderboards -> leaderboards.top(genre, Math.min(limit, size)));
+	}
+
+	public int getSize() {
+		return size;
+	}
+}
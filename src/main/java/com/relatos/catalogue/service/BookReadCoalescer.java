@@ -0,0 +1,98 @@
+package com.relatos.catalogue.service;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.relatos.catalogue.model.Book;
+import com.relatos.catalogue.utils.SingleFlight;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Single-flight front for the {@link BookService} read methods. Results are
+ * shared between threads, so lazy associations are initialized inside the
+ * leader's transaction and the books are detached from its persistence context
+ * before they are handed out.
+ */
+@Service
+public class BookReadCoalescer {
+
+	private static final String ALL_BOOKS = "all";
+
+	private final BookService bookService;
+	private final TransactionTemplate readOnlyTransaction;
+	private final SingleFlight<IsbnKey, Book> byIsbn;
+	private final SingleFlight<Object, List<Book>> lists;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	public BookReadCoalescer(BookService bookService,
+			@Qualifier("readOnlyTransactionTemplate") TransactionTemplate readOnlyTransaction,
+			MeterRegistry meterRegistry, @Value("${catalogue.singleflight.timeout-ms:5000}") long timeoutMs) {
+		this.bookService = bookService;
+		this.readOnlyTransaction = readOnlyTransaction;
+		this.byIsbn = new SingleFlight<>(timeoutMs);
+		this.lists = new SingleFlight<>(timeoutMs);
+
+		register(meterRegistry, "getBookByISBN", byIsbn);
+		register(meterRegistry, "lists", lists);
+	}
+
+	public Book getBookByISBN(long isbn, boolean includeDescription) {
+		return byIsbn.execute(new IsbnKey(isbn, includeDescription), () -> readOnlyTransaction.execute(status -> {
+			Book book = bookService.getBookByISBN(isbn, includeDescription);
+			Hibernate.initialize(book.getGenre());
+			entityManager.detach(book);
+			return book;
+		}));
+	}
+
+	public List<Book> getAllBooks() {
+		return lists.execute(ALL_BOOKS, () -> readOnlyTransaction.execute(status -> detached(bookService.getAllBooks())));
+	}
+
+	public List<Book> searchBooks(String title, String author, String genre, Long isbn, Double rate, Boolean display) {
+		SearchKey key = new SearchKey(lowerCase(title), lowerCase(author), lowerCase(genre), isbn, rate, display);
+		return lists.execute(key, () -> readOnlyTransaction
+				.execute(status -> detached(bookService.searchBooks(title, author, genre, isbn, rate, display))));
+	}
+
+	private List<Book> detached(List<Book> books) {
+		for (Book book : books) {
+			Hibernate.initialize(book.getGenre());
+			entityManager.detach(book);
+		}
+		return books;
+	}
+
+	private static String lowerCase(String value) {
+		return value == null ? null : value.toLowerCase(Locale.ROOT);
+	}
+
+	private static void register(MeterRegistry registry, String operation, SingleFlight<?, ?> singleFlight) {
+		FunctionCounter.builder("catalogue.singleflight.calls", singleFlight, SingleFlight::getLeaderCount)
+				.tag("operation", operation).tag("role", "leader").register(registry);
+		FunctionCounter.builder("catalogue.singleflight.calls", singleFlight, SingleFlight::getCoalescedCount)
+				.tag("operation", operation).tag("role", "coalesced").register(registry);
+		Gauge.builder("catalogue.singleflight.in_flight", singleFlight, SingleFlight::getInFlightCount)
+				.tag("operation", operation).register(registry);
+	}
+
+	private record IsbnKey(long isbn, boolean includeDescription) {
+	}
+
+	private record SearchKey(String title, String author, String genre, Long isbn, Double rate, Boolean display) {
+	}
+}
@@ -1,15 +1,30 @@
 package com.relatos.catalogue.service;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.relatos.catalogue.exception.BookCatalogueException;
+import com.relatos.catalogue.exception.BookNotFoundException;
+import com.relatos.catalogue.exception.BookValidationException;
+import com.relatos.catalogue.exception.DuplicateBookException;
 import com.relatos.catalogue.model.Book;
+import com.relatos.catalogue.model.BookBatchResult;
+import com.relatos.catalogue.model.BookChangeEvent;
+import com.relatos.catalogue.model.BookDescription;
+import com.relatos.catalogue.repository.BookDescriptionRepository;
 import com.relatos.catalogue.repository.BookRepository;
 import com.relatos.catalogue.utils.ISBNGenerator;
 
@@ -19,16 +34,24 @@ import jakarta.validation.Validator;
 @Service
 public class BookService {
 
+    public static final int MAX_BATCH_SIZE = 500;
+
     private final BookRepository bookRepository;
+    private final BookDescriptionRepository bookDescriptionRepository;
     private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
     private final Logger logger = LoggerFactory.getLogger(BookService.class);
 
     @Autowired
-    public BookService(BookRepository bookRepository, Validator validator) {
+    public BookService(BookRepository bookRepository, BookDescriptionRepository bookDescriptionRepository,
+            Validator validator, ApplicationEventPublisher eventPublisher) {
         this.bookRepository = bookRepository;
+        this.bookDescriptionRepository = bookDescriptionRepository;
         this.validator = validator;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional(readOnly = true)
     public List<Book> getAllBooks() {
         logger.debug("[BookCatalogue - getAllBooks] Fetching all books.");
         List<Book> books = bookRepository.findAll();
@@ -36,22 +59,42 @@ public class BookService {
         return books;
     }
 
-    public Book getBookByISBN(long isbn) {
+    @Transactional(readOnly = true)
+    public Book getBookByISBN(long isbn, boolean includeDescription) {
         logger.debug("[BookCatalogue - getBookByISBN] Searching for book with ISBN: {}", isbn);
-        try {
-            Book book = bookRepository.findById(isbn)
-                    .orElseThrow(() -> new IllegalArgumentException("Book not found with ISBN " + isbn));
-            logger.info("[BookCatalogue - getBookByISBN] Successfully found book: {}", book);
-            return book;
-        } catch (IllegalArgumentException e) {
-            logger.warn("[BookCatalogue - getBookByISBN] Book not found: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            logger.error("[BookCatalogue - getBookByISBN] Unexpected error: {}", e.getMessage());
-            throw new RuntimeException("An unexpected error occurred while retrieving the book.");
+        Book book = bookRepository.findById(isbn).orElse(null);
+        if (book == null) {
+            logger.debug("[BookCatalogue - getBookByISBN] Book not found with ISBN: {}", isbn);
+            throw new BookNotFoundException("Book not found with ISBN " + isbn);
         }
+        if (includeDescription) {
+            bookDescriptionRepository.findById(isbn)
+                    .ifPresent(description -> book.setDescription(description.getDescription()));
+        }
+        logger.debug("[BookCatalogue - getBookByISBN] Successfully found book: {}", book);
+        return book;
     }
 
+    @Transactional(readOnly = true)
+    public BookBatchResult getBooksByISBNs(Collection<Long> isbns) {
+        Set<Long> requested = new LinkedHashSet<>(isbns);
+        logger.debug("[BookCatalogue - getBooksByISBNs] Fetching {} distinct ISBNs.", requested.size());
+        if (requested.size() > MAX_BATCH_SIZE) {
+            throw new BookValidationException("A batch cannot contain more than " + MAX_BATCH_SIZE + " ISBNs.");
+        }
+
+        Map<Long, Book> booksByIsbn = bookRepository.findAllById(requested).stream()
+                .collect(Collectors.toMap(Book::getISBN, Function.identity()));
+        // The first initialization batch-fetches the genres of every book in the result.
+        booksByIsbn.values().forEach(book -> Hibernate.initialize(book.getGenre()));
+
+        List<Book> found = requested.stream().map(booksByIsbn::get).filter(book -> book != null).toList();
+        List<Long> missing = requested.stream().filter(isbn -> !booksByIsbn.containsKey(isbn)).toList();
+        logger.debug("[BookCatalogue - getBooksByISBNs] Found {} books, {} missing.", found.size(), missing.size());
+        return new BookBatchResult(found, missing);
+    }
+
+    @Transactional(readOnly = true)
     public List<Book> searchBooks(String title, String author, String genre, Long isbn, Double rate, Boolean display) {
         logger.debug("[BookCatalogue - searchBooks] Searching with filters: title={}, author={}, genre={}, isbn={}, rate={}, display={}",
                 title, author, genre, isbn, rate, display);
@@ -70,17 +113,21 @@ public class BookService {
         return filteredBooks;
     }
 
+    @Transactional
     public Book createBook(Book book) {
         logger.debug("[BookCatalogue - createBook] Creating book: {}", book);
         if (bookRepository.findByTitleContainingIgnoreCase(book.getTitle()).stream()
                 .anyMatch(existingBook -> existingBook.getTitle().equalsIgnoreCase(book.getTitle()))) {
-            logger.warn("[BookCatalogue - createBook] Attempt to create a book with duplicate title: '{}'", book.getTitle());
-            throw new IllegalArgumentException("A book with the same title already exists.");
+            logger.debug("[BookCatalogue - createBook] Attempt to create a book with duplicate title: '{}'", book.getTitle());
+            throw new DuplicateBookException("A book with the same title already exists.");
         }
 
         try {
             book.setISBN(Long.parseLong(ISBNGenerator.generateISBN()));
-            Book savedBook = bookRepository.save(book);
+            Book savedBook = bookRepository.saveAndFlush(book);
+            savedBook.setDescription(book.getDescription());
+            saveDescription(savedBook.getISBN(), book.getDescription());
+            eventPublisher.publishEvent(new BookChangedEvent(BookChangeEvent.Type.CREATED, savedBook.getISBN(), savedBook));
             logger.info("[BookCatalogue - createBook] Successfully created book: '{}'", savedBook.getTitle());
             return savedBook;
         } catch (Exception e) {
@@ -89,6 +136,7 @@ public class BookService {
         }
     }
 
+    @Transactional
     public Book updateBook(long isbn, Book updateBook) {
         logger.debug("[BookCatalogue - updateBook] Starting update for book with ISBN: {}", isbn);
         try {
@@ -97,12 +145,12 @@ public class BookService {
                 StringBuilder errorMessages = new StringBuilder();
                 violations.forEach(violation -> errorMessages.append(violation.getPropertyPath())
                         .append(": ").append(violation.getMessage()).append("; "));
-                logger.warn("[Validation Error] {}", errorMessages);
-                throw new IllegalArgumentException("Validation failed: " + errorMessages);
+                logger.debug("[Validation Error] {}", errorMessages);
+                throw new BookValidationException("Validation failed: " + errorMessages);
             }
 
             Book existingBook = bookRepository.findById(isbn)
-                    .orElseThrow(() -> new IllegalArgumentException("Book not found with ISBN " + isbn));
+                    .orElseThrow(() -> new BookNotFoundException("Book not found with ISBN " + isbn));
             logger.debug("[BookCatalogue - updateBook] Found book: {}", existingBook);
 
             existingBook.setTitle(updateBook.getTitle());
@@ -116,13 +164,16 @@ public class BookService {
             existingBook.setDisplay(updateBook.isDisplay());
             logger.debug("[BookCatalogue - updateBook] Updated book details: {}", existingBook);
 
-            Book updatedBook = bookRepository.save(existingBook);
+            // Flushing takes the row lock now, so concurrent writes to the same book append their
+            // change events in commit order.
+            Book updatedBook = bookRepository.saveAndFlush(existingBook);
+            saveDescription(isbn, updateBook.getDescription());
+            eventPublisher.publishEvent(new BookChangedEvent(BookChangeEvent.Type.UPDATED, isbn, updatedBook));
             logger.info("[BookCatalogue - updateBook] Successfully updated book with ISBN: {}", isbn);
 
             return updatedBook;
 
-        } catch (IllegalArgumentException e) {
-            logger.warn("[BookCatalogue - updateBook] Validation or client error: {}", e.getMessage());
+        } catch (BookCatalogueException e) {
             throw e;
         } catch (Exception e) {
             logger.error("[BookCatalogue - updateBook] Unexpected error while updating book with ISBN: {}. Error: {}", isbn, e.getMessage());
@@ -130,34 +181,48 @@ public class BookService {
         }
     }
 
+    @Transactional
     public Book partialUpdateBook(long isbn, Book updateBook) {
         logger.debug("[BookCatalogue - partialUpdateBook] Starting partial update for book with ISBN: {}", isbn);
         Book existingBook = bookRepository.findById(isbn)
-                .orElseThrow(() -> new IllegalArgumentException("Book not found with ISBN " + isbn));
+                .orElseThrow(() -> new BookNotFoundException("Book not found with ISBN " + isbn));
 
         if (updateBook.getPrice() > 0) {
             existingBook.setPrice(updateBook.getPrice());
             logger.debug("[BookCatalogue - partialUpdateBook] Updated price to: {}", updateBook.getPrice());
         } else if (updateBook.getPrice() <= 0) {
-            logger.warn("[BookCatalogue - partialUpdateBook] Invalid price provided: {}", updateBook.getPrice());
-            throw new IllegalArgumentException("Price must be greater than 0");
+            logger.debug("[BookCatalogue - partialUpdateBook] Invalid price provided: {}", updateBook.getPrice());
+            throw new BookValidationException("Price must be greater than 0");
         }
 
-        Book savedBook = bookRepository.save(existingBook);
+        Book savedBook = bookRepository.saveAndFlush(existingBook);
+        eventPublisher.publishEvent(new BookChangedEvent(BookChangeEvent.Type.UPDATED, isbn, savedBook));
         logger.info("[BookCatalogue - partialUpdateBook] Successfully partially updated book with ISBN: {}", isbn);
         return savedBook;
     }
 
+    @Transactional
     public boolean deleteBookByISBN(long isbn) {
         logger.debug("[BookCatalogue - deleteBookByISBN] Starting deletion for book with ISBN: {}", isbn);
 
         if (!bookRepository.existsById(isbn)) {
-            logger.warn("[BookCatalogue - deleteBookByISBN] No books with ISBN {} were found to delete.", isbn);
+            logger.debug("[BookCatalogue - deleteBookByISBN] No books with ISBN {} were found to delete.", isbn);
             return false;
         }
 
+        bookDescriptionRepository.deleteById(isbn);
         bookRepository.deleteById(isbn);
+        bookRepository.flush();
+        eventPublisher.publishEvent(new BookChangedEvent(BookChangeEvent.Type.DELETED, isbn, null));
         logger.info("[BookCatalogue - deleteBookByISBN] Successfully deleted book with ISBN: {}", isbn);
         return true;
     }
+
+    private void saveDescription(long isbn, String description) {
+        if (description == null) {
+            bookDescriptionRepository.deleteById(isbn);
+        } else {
+            bookDescriptionRepository.save(new BookDescription(isbn, description));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+package com.relatos.catalogue.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.relatos.catalogue.model.Book;
+import com.relatos.catalogue.model.CatalogueFilter;
+
+/**
+ * Column-oriented copy of the catalogue: one primitive array per numeric
+ * attribute, dictionary-encoded authors and one row bitmap per genre. Not
+ * thread-safe; {@link CatalogueSnapshot} guards access.
+ */
+class CatalogueColumns {
+
+	private static final int SCAN_THRESHOLD = 16_384;
+
+	private int rowCount;
+	private long[] isbns;
+	private double[] prices;
+	private double[] rates;
+	private int[] authorIds;
+	private final BitSet live = new BitSet();
+	private final BitSet display = new BitSet();
+	private final Map<String, Integer> genreIds = new HashMap<>();
+	private final List<BitSet> genreRows = new ArrayList<>();
+	private final Map<String, Integer> authorIdsByName = new HashMap<>();
+	private final Map<Long, Integer> rowByIsbn = new HashMap<>();
+	private final Deque<Integer> freeRows = new ArrayDeque<>();
+
+	CatalogueColumns(int capacity) {
+		int initial = Math.max(capacity, 16);
+		isbns = new long[initial];
+		prices = new double[initial];
+		rates = new double[initial];
+		authorIds = new int[initial];
+	}
+
+	void upsert(Book book) {
+		Integer row = rowByIsbn.get(book.getISBN());
+		if (row == null) {
+			row = freeRows.isEmpty() ? rowCount++ : freeRows.pop();
+			ensureCapacity(rowCount);
+			rowByIsbn.put(book.getISBN(), row);
+		} else {
+			clearGenres(row);
+		}
+
+		isbns[row] = book.getISBN();
+		prices[row] = book.getPrice();
+		rates[row] = book.getRate();
+		authorIds[row] = authorIdsByName.computeIfAbsent(key(book.getAuthor()), name -> authorIdsByName.size());
+		live.set(row);
+		display.set(row, book.isDisplay());
+		for (String genre : book.getGenre()) {
+			int genreId = genreIds.computeIfAbsent(key(genre), name -> {
+				genreRows.add(new BitSet());
+				return genreRows.size() - 1;
+			});
+			genreRows.get(genreId).set(row);
+		}
+	}
+
+	void remove(long isbn) {
+		Integer row = rowByIsbn.remove(isbn);
+		if (row == null) {
+			return;
+		}
+		live.clear(row);
+		display.clear(row);
+		clearGenres(row);
+		freeRows.push(row);
+	}
+
+	int size() {
+		return rowByIsbn.size();
+	}
+
+	BitSet match(CatalogueFilter filter) {
+		BitSet candidates = (BitSet) live.clone();
+		if (filter.display() != null) {
+			if (filter.display()) {
+				candidates.and(display);
+			} else {
+				candidates.andNot(display);
+			}
+		}
+		if (filter.genre() != null) {
+			Integer genreId = genreIds.get(key(filter.genre()));
+			if (genreId == null) {
+				return new BitSet();
+			}
+			candidates.and(genreRows.get(genreId));
+		}
+
+		int authorId = -1;
+		if (filter.author() != null) {
+			Integer id = authorIdsByName.get(key(filter.author()));
+			if (id == null) {
+				return new BitSet();
+			}
+			authorId = id;
+		}
+
+		if (!filter.hasRowPredicates() || candidates.isEmpty()) {
+			return candidates;
+		}
+		return ForkJoinPool.commonPool().invoke(new ScanTask(candidates, filter, authorId, 0, rowCount));
+	}
+
+	long isbn(int row) {
+		return isbns[row];
+	}
+
+	double price(int row) {
+		return prices[row];
+	}
+
+	double rate(int row) {
+		return rates[row];
+	}
+
+	private void clearGenres(int row) {
+		genreRows.forEach(rows -> rows.clear(row));
+	}
+
+	private void ensureCapacity(int required) {
+		if (required <= isbns.length) {
+			return;
+		}
+		int capacity = Math.max(required, isbns.length * 2);
+		isbns = Arrays.copyOf(isbns, capacity);
+		prices = Arrays.copyOf(prices, capacity);
+		rates = Arrays.copyOf(rates, capacity);
+		authorIds = Arrays.copyOf(authorIds, capacity);
+	}
+
+	private static String key(String value) {
+		return value == null ? "" : value.toLowerCase(Locale.ROOT);
+	}
+
+	@SuppressWarnings("serial")
+	private final class ScanTask extends RecursiveTask<BitSet> {
+
+		private final BitSet candidates;
+		private final int authorId;
+		private final double minRate;
+		private final double maxRate;
+		private final double minPrice;
+		private final double maxPrice;
+		private final int from;
+		private final int to;
+
+		private ScanTask(BitSet candidates, CatalogueFilter filter, int authorId, int from, int to) {
+			this(candidates, authorId, bound(filter.minRate(), Double.NEGATIVE_INFINITY),
+					bound(filter.maxRate(), Double.POSITIVE_INFINITY), bound(filter.minPrice(), Double.NEGATIVE_INFINITY),
+					bound(filter.maxPrice(), Double.POSITIVE_INFINITY), from, to);
+		}
+
+		private ScanTask(BitSet candidates, int authorId, double minRate, double maxRate, double minPrice,
+				double maxPrice, int from, int to) {
+			this.candidates = candidates;
+			this.authorId = authorId;
+			this.minRate = minRate;
+			this.maxRate = maxRate;
+			this.minPrice = minPrice;
+			this.maxPrice = maxPrice;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected BitSet compute() {
+			if (to - from <= SCAN_THRESHOLD) {
+				return scan();
+			}
+			int middle = (from + to) >>> 1;
+			ScanTask left = new ScanTask(candidates, authorId, minRate, maxRate, minPrice, maxPrice, from, middle);
+			left.fork();
+			BitSet result = new ScanTask(candidates, authorId, minRate, maxRate, minPrice, maxPrice, middle, to)
+					.compute();
+			result.or(left.join());
+			return result;
+		}
+
+		private BitSet scan() {
+			BitSet result = new BitSet();
+			for (int row = candidates.nextSetBit(from); row >= 0 && row < to; row = candidates.nextSetBit(row + 1)) {
+				if ((authorId < 0 || authorIds[row] == authorId)
+						&& rates[row] >= minRate && rates[row] <= maxRate
+						&& prices[row] >= minPrice && prices[row] <= maxPrice) {
+					result.set(row);
+				}
+			}
+			return result;
+		}
+
+		private static double bound(Double value, double unbounded) {
+			return value == null ? unbounded : value;
+		}
+	}
+}
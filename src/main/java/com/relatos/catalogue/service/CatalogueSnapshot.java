@@ -0,0 +1,90 @@
+package com.relatos.catalogue.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.relatos.catalogue.model.Book;
+import com.relatos.catalogue.model.BookChangeEvent;
+import com.relatos.catalogue.model.CatalogueFilter;
+import com.relatos.catalogue.model.CatalogueStats;
+
+/**
+ * In-memory columnar view of the catalogue for analytics queries. It follows
+ * the change feed like every {@link CatalogueView}; the periodic rebuild
+ * compacts the columns.
+ */
+@Service
+@Order(0)
+public class CatalogueSnapshot extends CatalogueView<CatalogueColumns> {
+
+	private final BookService bookService;
+
+	public CatalogueSnapshot(BookService bookService, BookChangeFeed changeFeed,
+			TransactionTemplate transactionTemplate) {
+		super(bookService, changeFeed, transactionTemplate, new CatalogueColumns(0));
+		this.bookService = bookService;
+	}
+
+	@Scheduled(initialDelayString = "${catalogue.snapshot.rebuild-interval-ms:600000}",
+			fixedDelayString = "${catalogue.snapshot.rebuild-interval-ms:600000}")
+	public void scheduledRebuild() {
+		rebuild();
+	}
+
+	@Override
+	protected CatalogueColumns build(List<Book> books) {
+		CatalogueColumns columns = new CatalogueColumns(books.size());
+		books.forEach(columns::upsert);
+		return columns;
+	}
+
+	@Override
+	protected void apply(CatalogueColumns target, BookChangedEvent change) {
+		if (change.type() == BookChangeEvent.Type.DELETED) {
+			target.remove(change.isbn());
+		} else {
+			target.upsert(change.book());
+		}
+	}
+
+	public CatalogueStats stats(CatalogueFilter filter) {
+		return read(columns -> {
+			BitSet rows = columns.match(filter);
+			int count = 0;
+			double minPrice = Double.POSITIVE_INFINITY;
+			double maxPrice = Double.NEGATIVE_INFINITY;
+			double priceSum = 0;
+			double rateSum = 0;
+			for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+				double price = columns.price(row);
+				minPrice = Math.min(minPrice, price);
+				maxPrice = Math.max(maxPrice, price);
+				priceSum += price;
+				rateSum += columns.rate(row);
+				count++;
+			}
+			if (count == 0) {
+				return new CatalogueStats(0, null, null, null, null);
+			}
+			return new CatalogueStats(count, minPrice, maxPrice, priceSum / count, rateSum / count);
+		});
+	}
+
+	public List<Book> findBooks(CatalogueFilter filter, int limit) {
+		List<Long> isbns = read(columns -> {
+			List<Long> matches = new ArrayList<>();
+			BitSet rows = columns.match(filter);
+			for (int row = rows.nextSetBit(0); row >= 0 && matches.size() < limit; row = rows.nextSetBit(row + 1)) {
+				matches.add(columns.isbn(row));
+			}
+			return matches;
+		});
+		return isbns.isEmpty() ? List.of() : bookService.getBooksByISBNs(isbns).found();
+	}
+}
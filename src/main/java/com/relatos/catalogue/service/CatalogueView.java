@@ -0,0 +1,135 @@
+package com.relatos.catalogue.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.relatos.catalogue.model.Book;
+import com.relatos.catalogue.model.BookChangePage;
+
+/**
+ * Base for in-memory views derived from the whole catalogue. The view is built
+ * from the database at startup and on {@link #rebuild()}, and kept current in
+ * between by applying the {@link BookChangeFeed} in offset order, so every
+ * instance sees the writes made on every other instance, in the order they
+ * were published.
+ *
+ * Rebuilds read the books and the latest published offset from the primary in
+ * one repeatable-read snapshot; the feed is then followed from that offset.
+ * Events published after the snapshot may already be reflected in it, which is
+ * harmless because every event replaces or removes the whole book.
+ */
+public abstract class CatalogueView<S> implements ApplicationRunner {
+
+	private final BookService bookService;
+	private final BookChangeFeed changeFeed;
+	private final TransactionTemplate snapshotTransaction;
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Lock refreshLock = new ReentrantLock();
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	@Value("${catalogue.views.feed-batch-size:500}")
+	private int feedBatchSize;
+
+	private S state;
+	private long appliedOffset = -1;
+
+	protected CatalogueView(BookService bookService, BookChangeFeed changeFeed, TransactionTemplate primaryTransaction,
+			S initialState) {
+		this.bookService = bookService;
+		this.changeFeed = changeFeed;
+		this.snapshotTransaction = new TransactionTemplate(primaryTransaction.getTransactionManager(),
+				primaryTransaction);
+		this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+		this.state = initialState;
+	}
+
+	/**
+	 * Builds a fresh state from every book in the catalogue. Genres are already
+	 * initialized.
+	 */
+	protected abstract S build(List<Book> books);
+
+	protected abstract void apply(S target, BookChangedEvent change);
+
+	@Override
+	public void run(ApplicationArguments args) {
+		rebuild();
+	}
+
+	public void rebuild() {
+		long start = System.nanoTime();
+		refreshLock.lock();
+		try {
+			Snapshot<S> snapshot = snapshotTransaction.execute(status -> {
+				long offset = changeFeed.latestOffset();
+				List<Book> books = bookService.getAllBooks();
+				books.forEach(book -> Hibernate.initialize(book.getGenre()));
+				return new Snapshot<>(build(books), offset);
+			});
+
+			lock.writeLock().lock();
+			try {
+				state = snapshot.state();
+			} finally {
+				lock.writeLock().unlock();
+			}
+			appliedOffset = snapshot.offset();
+		} finally {
+			refreshLock.unlock();
+		}
+		logger.info("[BookCatalogue - {}] Rebuilt up to offset {} in {} ms.", getClass().getSimpleName(),
+				appliedOffset, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+	}
+
+	@Scheduled(fixedDelayString = "${catalogue.views.poll-interval-ms:500}")
+	public void followFeed() {
+		refreshLock.lock();
+		try {
+			if (appliedOffset < 0) {
+				return;
+			}
+
+			BookChangePage page;
+			do {
+				page = changeFeed.read(appliedOffset, feedBatchSize);
+				List<BookChangedEvent> changes = page.events().stream().map(changeFeed::toChange).toList();
+				lock.writeLock().lock();
+				try {
+					changes.forEach(change -> apply(state, change));
+				} finally {
+					lock.writeLock().unlock();
+				}
+				appliedOffset = page.nextOffset();
+			} while (page.events().size() == feedBatchSize);
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+
+	protected <R> R read(Function<S, R> reader) {
+		lock.readLock().lock();
+		try {
+			return reader.apply(state);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private record Snapshot<S>(S state, long offset) {
+	}
+}
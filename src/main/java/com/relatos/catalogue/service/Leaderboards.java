@@ -0,0 +1,135 @@
+package com.relatos.catalogue.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.relatos.catalogue.model.Book;
+import com.relatos.catalogue.model.LeaderboardEntry;
+
+/**
+ * Bounded top-rated boards, one overall and one per genre, holding only
+ * displayed books. Each board retains twice the published size so deletions
+ * rarely leave it short. A board remembers the best entry it ever evicted or
+ * turned away as its frontier: anything ranked below the frontier may be
+ * missing books in between, so such offers are dropped, and once deletions
+ * leave fewer than the published size above the frontier the boards report
+ * {@link #needsRebuild()}. Not thread-safe; {@link BookLeaderboard} guards
+ * access.
+ */
+class Leaderboards {
+
+	static final String OVERALL = "";
+
+	private static final Comparator<LeaderboardEntry> ORDER = Comparator.comparingDouble(LeaderboardEntry::rate)
+			.reversed().thenComparingLong(LeaderboardEntry::isbn);
+
+	private final int size;
+	private final int retained;
+	private final Map<String, Board> boards = new HashMap<>();
+	private final Map<Long, Set<String>> boardsByIsbn = new HashMap<>();
+	private boolean needsRebuild;
+
+	Leaderboards(int size) {
+		this.size = size;
+		this.retained = size * 2;
+	}
+
+	void upsert(Book book) {
+		remove(book.getISBN());
+		if (!book.isDisplay()) {
+			return;
+		}
+
+		LeaderboardEntry entry = LeaderboardEntry.of(book);
+		offer(OVERALL, entry);
+		for (String genre : book.getGenre()) {
+			offer(key(genre), entry);
+		}
+	}
+
+	void remove(long isbn) {
+		Set<String> keys = boardsByIsbn.remove(isbn);
+		if (keys == null) {
+			return;
+		}
+		for (String key : keys) {
+			Board board = boards.get(key);
+			board.remove(isbn);
+			if (board.frontier != null && board.entries.size() < size) {
+				needsRebuild = true;
+			}
+		}
+	}
+
+	List<LeaderboardEntry> top(String genre, int limit) {
+		Board board = boards.get(genre == null ? OVERALL : key(genre));
+		if (board == null) {
+			return List.of();
+		}
+		List<LeaderboardEntry> top = new ArrayList<>(Math.min(limit, board.entries.size()));
+		Iterator<LeaderboardEntry> iterator = board.entries.iterator();
+		while (iterator.hasNext() && top.size() < limit) {
+			top.add(iterator.next());
+		}
+		return top;
+	}
+
+	boolean needsRebuild() {
+		return needsRebuild;
+	}
+
+	private void offer(String key, LeaderboardEntry entry) {
+		Board board = boards.computeIfAbsent(key, k -> new Board());
+		if (board.frontier != null && ORDER.compare(entry, board.frontier) > 0) {
+			return;
+		}
+		if (board.entries.size() >= retained && ORDER.compare(entry, board.entries.last()) > 0) {
+			board.frontier = entry;
+			return;
+		}
+
+		board.add(entry);
+		boardsByIsbn.computeIfAbsent(entry.isbn(), isbn -> new HashSet<>()).add(key);
+		if (board.entries.size() > retained) {
+			LeaderboardEntry evicted = board.entries.pollLast();
+			board.byIsbn.remove(evicted.isbn());
+			board.frontier = evicted;
+			Set<String> keys = boardsByIsbn.get(evicted.isbn());
+			keys.remove(key);
+			if (keys.isEmpty()) {
+				boardsByIsbn.remove(evicted.isbn());
+			}
+		}
+	}
+
+	private static String key(String genre) {
+		return genre.toLowerCase(Locale.ROOT);
+	}
+
+	private static final class Board {
+
+		private final TreeSet<LeaderboardEntry> entries = new TreeSet<>(ORDER);
+		private final Map<Long, LeaderboardEntry> byIsbn = new HashMap<>();
+		private LeaderboardEntry frontier;
+
+		private void add(LeaderboardEntry entry) {
+			byIsbn.put(entry.isbn(), entry);
+			entries.add(entry);
+		}
+
+		private void remove(long isbn) {
+			LeaderboardEntry entry = byIsbn.remove(isbn);
+			if (entry != null) {
+				entries.remove(entry);
+			}
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.relatos.catalogue.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gradient-based concurrency limit. The limit follows the ratio between the
+ * long-term and the latest round-trip time: it grows while latency stays at
+ * its baseline and shrinks as soon as requests start queueing. Failed requests
+ * back off multiplicatively.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+	private static final double LONG_WINDOW_WEIGHT = 0.01;
+	private static final double SMOOTHING = 0.2;
+	private static final double TOLERANCE = 1.5;
+	private static final double BACKOFF_RATIO = 0.9;
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final LongAdder rejected = new LongAdder();
+	private volatile double limit;
+	private double longRttNanos;
+
+	public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+		this.limit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+	}
+
+	public boolean tryAcquire() {
+		while (true) {
+			int current = inFlight.get();
+			if (current >= (int) limit) {
+				rejected.increment();
+				return false;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	public void release(long rttNanos, boolean dropped) {
+		int current = inFlight.getAndDecrement();
+		synchronized (this) {
+			double newLimit;
+			if (dropped) {
+				newLimit = limit * BACKOFF_RATIO;
+			} else {
+				if (longRttNanos == 0) {
+					longRttNanos = rttNanos;
+				}
+				longRttNanos = longRttNanos * (1 - LONG_WINDOW_WEIGHT) + rttNanos * LONG_WINDOW_WEIGHT;
+				// Let the baseline recover quickly after a sustained slowdown ends.
+				if (longRttNanos / rttNanos > 2) {
+					longRttNanos *= 0.95;
+				}
+
+				// Only probe upwards when the limit is actually being used.
+				if (current < limit / 2) {
+					return;
+				}
+
+				double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / rttNanos));
+				double queueSize = Math.sqrt(limit);
+				newLimit = limit * (1 - SMOOTHING) + (limit * gradient + queueSize) * SMOOTHING;
+			}
+			limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+		}
+	}
+
+	public int getLimit() {
+		return (int) limit;
+	}
+
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	public long getRejectedCount() {
+		return rejected.sum();
+	}
+}
@@ -0,0 +1,53 @@
+package com.relatos.catalogue.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+
+/**
+ * Lets at most {@code permitsPerSecond} warnings through per second and folds
+ * the rest into a suppressed count reported with the next one that passes.
+ */
+public class RateLimitedLogger {
+
+	private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final Logger logger;
+	private final int permitsPerSecond;
+	private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+	private final AtomicInteger permitsUsed = new AtomicInteger();
+	private final AtomicInteger suppressed = new AtomicInteger();
+
+	public RateLimitedLogger(Logger logger, int permitsPerSecond) {
+		this.logger = logger;
+		this.permitsPerSecond = permitsPerSecond;
+	}
+
+	public void warn(String format, Object argument) {
+		if (!logger.isWarnEnabled()) {
+			return;
+		}
+		if (!tryAcquire()) {
+			suppressed.incrementAndGet();
+			return;
+		}
+
+		int skipped = suppressed.getAndSet(0);
+		if (skipped > 0) {
+			logger.warn(format + " ({} similar messages suppressed)", argument, skipped);
+		} else {
+			logger.warn(format, argument);
+		}
+	}
+
+	private boolean tryAcquire() {
+		long now = System.nanoTime();
+		long start = windowStart.get();
+		if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+			permitsUsed.set(0);
+		}
+		return permitsUsed.incrementAndGet() <= permitsPerSecond;
+	}
+}
@@ -0,0 +1,77 @@
+package com.relatos.catalogue.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.relatos.catalogue.exception.CoalescedLoadTimeoutException;
+
+/**
+ * Collapses concurrent loads of the same key into one. The first caller runs
+ * the loader on its own thread; callers arriving while it is in flight wait up
+ * to the timeout for the same result or exception.
+ */
+public class SingleFlight<K, V> {
+
+	private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder leaders = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+	private final long timeoutMs;
+
+	public SingleFlight(long timeoutMs) {
+		this.timeoutMs = timeoutMs;
+	}
+
+	public V execute(K key, Supplier<V> loader) {
+		CompletableFuture<V> future = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+
+		if (existing == null) {
+			leaders.increment();
+			try {
+				V value = loader.get();
+				future.complete(value);
+				return value;
+			} catch (RuntimeException | Error e) {
+				future.completeExceptionally(e);
+				throw e;
+			} finally {
+				inFlight.remove(key, future);
+			}
+		}
+
+		coalesced.increment();
+		try {
+			return existing.get(timeoutMs, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (TimeoutException e) {
+			throw new CoalescedLoadTimeoutException("Timed out after " + timeoutMs + " ms waiting for " + key);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CoalescedLoadTimeoutException("Interrupted while waiting for " + key);
+		}
+	}
+
+	public long getLeaderCount() {
+		return leaders.sum();
+	}
+
+	public long getCoalescedCount() {
+		return coalesced.sum();
+	}
+
+	public int getInFlightCount() {
+		return inFlight.size();
+	}
+}
@@ -0,0 +1,101 @@
+package com.relatos.catalogue.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.relatos.catalogue.model.Book;
+
+/**
+ * Encode/decode cost and size of JSON, CBOR and Smile for one book and for a
+ * 10,000-book list, using mappers built the same way as the converters in
+ * {@link WebConfig}. Not part of the regular test run (the class name does not
+ * match the surefire includes); run it with
+ * {@code scripts/wire-format-benchmark.sh}.
+ */
+class WireFormatBenchmark {
+
+	private static final TypeReference<List<Book>> BOOK_LIST = new TypeReference<>() {
+	};
+
+	private long blackhole;
+
+	@Test
+	void compareFormats() throws Exception {
+		List<Book> books = books(10_000);
+		System.out.printf("%-8s %-7s %12s %12s %12s%n", "dataset", "format", "bytes", "encode_ns", "decode_ns");
+		for (Format format : formats()) {
+			run("1", format, books.get(0), Book.class);
+			run("10000", format, books, BOOK_LIST);
+		}
+		System.out.println("checksum " + blackhole);
+	}
+
+	private void run(String dataset, Format format, Object value, Object type) throws Exception {
+		ObjectMapper mapper = format.mapper();
+		byte[] encoded = mapper.writeValueAsBytes(value);
+		int iterations = Math.max(50, 200_000_000 / encoded.length);
+
+		measureEncode(mapper, value, iterations);
+		long encodeNs = measureEncode(mapper, value, iterations);
+		measureDecode(mapper, encoded, type, iterations);
+		long decodeNs = measureDecode(mapper, encoded, type, iterations);
+
+		System.out.printf("%-8s %-7s %12d %12d %12d%n", dataset, format.name(), encoded.length, encodeNs, decodeNs);
+	}
+
+	private long measureEncode(ObjectMapper mapper, Object value, int iterations) throws Exception {
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			blackhole += mapper.writeValueAsBytes(value).length;
+		}
+		return (System.nanoTime() - start) / iterations;
+	}
+
+	@SuppressWarnings("unchecked")
+	private long measureDecode(ObjectMapper mapper, byte[] encoded, Object type, int iterations) throws Exception {
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			Object decoded = type instanceof Class<?> clazz ? mapper.readValue(encoded, clazz)
+					: mapper.readValue(encoded, (TypeReference<Object>) type);
+			blackhole += decoded.hashCode();
+		}
+		return (System.nanoTime() - start) / iterations;
+	}
+
+	private static List<Format> formats() {
+		return List.of(new Format("json", Jackson2ObjectMapperBuilder.json().build()),
+				new Format("cbor", Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build()),
+				new Format("smile", Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build()));
+	}
+
+	private static List<Book> books(int count) {
+		Random random = new Random(42);
+		String[] genres = { "Fantasy", "Science Fiction", "Mystery", "Romance", "History", "Poetry" };
+		List<Book> books = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Book book = new Book();
+			book.setISBN(9780000000000L + i);
+			book.setTitle("Synthetic book number " + i);
+			book.setAuthor("Author " + random.nextInt(2_000));
+			book.setPrice(5 + random.nextInt(4_500) / 100.0);
+			book.setCover("https://covers.example.com/" + (9780000000000L + i) + ".jpg");
+			book.setPublicationDate((1950 + random.nextInt(75)) + "-01-01");
+			book.setGenre(List.of(genres[random.nextInt(genres.length)], genres[random.nextInt(genres.length)]));
+			book.setRate(random.nextInt(51) / 10.0);
+			book.setDisplay(random.nextBoolean());
+			books.add(book);
+		}
+		return books;
+	}
+
+	private record Format(String name, ObjectMapper mapper) {
+	}
+}
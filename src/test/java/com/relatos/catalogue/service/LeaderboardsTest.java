@@ -0,0 +1,93 @@
+package com.relatos.catalogue.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.relatos.catalogue.model.Book;
+import com.relatos.catalogue.model.LeaderboardEntry;
+
+class LeaderboardsTest {
+
+	private static final int SIZE = 20;
+
+	@Test
+	void demotedBookIsNeverServedAheadOfEvictedBooks() {
+		Leaderboards leaderboards = new Leaderboards(SIZE);
+		// 40 retained books rated 4.0 and above, then 20 rated 3.0 that get evicted.
+		for (int i = 0; i < 40; i++) {
+			leaderboards.upsert(book(1000 + i, 5.0 - i * 0.025));
+		}
+		for (int i = 0; i < 20; i++) {
+			leaderboards.upsert(book(2000 + i, 3.0));
+		}
+
+		leaderboards.upsert(book(1000, 1.0));
+		assertServed(leaderboards, 1000);
+
+		for (int i = 1; i < 20; i++) {
+			leaderboards.remove(1000 + i);
+			assertServed(leaderboards, 1000);
+		}
+		assertFalse(leaderboards.needsRebuild());
+
+		leaderboards.remove(1020);
+		assertTrue(leaderboards.needsRebuild());
+		assertServed(leaderboards, 1000);
+	}
+
+	@Test
+	void offerBelowFrontierIsDroppedEvenWithRoom() {
+		Leaderboards leaderboards = new Leaderboards(1);
+		leaderboards.upsert(book(1, 5.0));
+		leaderboards.upsert(book(2, 4.0));
+		leaderboards.upsert(book(3, 3.0));
+
+		leaderboards.remove(1);
+		leaderboards.upsert(book(4, 2.0));
+
+		assertEquals(List.of(2L), isbns(leaderboards.top(null, 2)));
+	}
+
+	@Test
+	void untruncatedBoardNeverNeedsRebuild() {
+		Leaderboards leaderboards = new Leaderboards(SIZE);
+		for (int i = 0; i < 10; i++) {
+			leaderboards.upsert(book(i, 4.0));
+		}
+		for (int i = 0; i < 10; i++) {
+			leaderboards.remove(i);
+		}
+
+		assertFalse(leaderboards.needsRebuild());
+		assertTrue(leaderboards.top(null, SIZE).isEmpty());
+	}
+
+	private static void assertServed(Leaderboards leaderboards, long absentIsbn) {
+		for (String genre : new String[] { null, "Fantasy" }) {
+			List<LeaderboardEntry> top = leaderboards.top(genre, SIZE);
+			assertFalse(isbns(top).contains(absentIsbn), "demoted book served on board " + genre);
+			for (int i = 1; i < top.size(); i++) {
+				assertTrue(top.get(i - 1).rate() >= top.get(i).rate());
+			}
+		}
+	}
+
+	private static List<Long> isbns(List<LeaderboardEntry> entries) {
+		return entries.stream().map(LeaderboardEntry::isbn).toList();
+	}
+
+	private static Book book(long isbn, double rate) {
+		Book book = new Book();
+		book.setISBN(isbn);
+		book.setTitle("Book " + isbn);
+		book.setRate(rate);
+		book.setDisplay(true);
+		book.setGenre(List.of("Fantasy"));
+		return book;
+	}
+}
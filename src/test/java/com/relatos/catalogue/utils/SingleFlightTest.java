@@ -0,0 +1,129 @@
+package com.relatos.catalogue.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.relatos.catalogue.exception.CoalescedLoadTimeoutException;
+
+class SingleFlightTest {
+
+	private static final int FOLLOWERS = 4;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+	private final CountDownLatch started = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@AfterEach
+	void shutDown() {
+		release.countDown();
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentCallersShareOneLoad() throws Exception {
+		SingleFlight<String, String> singleFlight = new SingleFlight<>(5_000);
+		Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> blockingLoad("value")));
+		List<Future<String>> followers = startFollowers(singleFlight, () -> "unexpected");
+
+		release.countDown();
+
+		assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+		for (Future<String> follower : followers) {
+			assertEquals("value", follower.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, loads.get());
+		assertEquals(1, singleFlight.getLeaderCount());
+		assertEquals(FOLLOWERS, singleFlight.getCoalescedCount());
+		assertEquals(0, singleFlight.getInFlightCount());
+	}
+
+	@Test
+	void followersRethrowLeaderException() throws Exception {
+		SingleFlight<String, String> singleFlight = new SingleFlight<>(5_000);
+		IllegalStateException failure = new IllegalStateException("load failed");
+		Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+			blockingLoad(null);
+			throw failure;
+		}));
+		List<Future<String>> followers = startFollowers(singleFlight, () -> "unexpected");
+
+		release.countDown();
+
+		assertSame(failure, assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS)).getCause());
+		for (Future<String> follower : followers) {
+			assertSame(failure,
+					assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS)).getCause());
+		}
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void followerTimesOutWhileLeaderIsStillLoading() throws Exception {
+		SingleFlight<String, String> singleFlight = new SingleFlight<>(50);
+		Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> blockingLoad("value")));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		long start = System.nanoTime();
+		assertThrows(CoalescedLoadTimeoutException.class, () -> singleFlight.execute("key", () -> "unexpected"));
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+
+		release.countDown();
+		assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void keyIsFreedAfterFailure() {
+		SingleFlight<String, String> singleFlight = new SingleFlight<>(5_000);
+
+		assertThrows(IllegalStateException.class, () -> singleFlight.execute("key", () -> {
+			throw new IllegalStateException("load failed");
+		}));
+
+		assertEquals(0, singleFlight.getInFlightCount());
+		assertEquals("value", singleFlight.execute("key", () -> "value"));
+		assertEquals(2, singleFlight.getLeaderCount());
+	}
+
+	private List<Future<String>> startFollowers(SingleFlight<String, String> singleFlight, Supplier<String> loader)
+			throws InterruptedException {
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		List<Future<String>> followers = new ArrayList<>();
+		for (int i = 0; i < FOLLOWERS; i++) {
+			followers.add(executor.submit(() -> singleFlight.execute("key", loader)));
+		}
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (singleFlight.getCoalescedCount() < FOLLOWERS && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+		assertEquals(FOLLOWERS, singleFlight.getCoalescedCount());
+		return followers;
+	}
+
+	private String blockingLoad(String value) {
+		loads.incrementAndGet();
+		started.countDown();
+		try {
+			release.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return value;
+	}
+}